@@ -2,6 +2,9 @@ package homey;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Timer;
 import java.util.TimerTask;
@@ -12,6 +15,7 @@ import homey.commons.core.LogsCenter;
 import homey.commons.core.Version;
 import homey.commons.exceptions.DataLoadingException;
 import homey.commons.util.ConfigUtil;
+import homey.commons.util.DataFileFormat;
 import homey.commons.util.StringUtil;
 import homey.logic.Logic;
 import homey.logic.LogicManager;
@@ -21,9 +25,13 @@ import homey.model.ModelManager;
 import homey.model.ReadOnlyAddressBook;
 import homey.model.ReadOnlyUserPrefs;
 import homey.model.UserPrefs;
+import homey.model.person.Person;
 import homey.model.util.SampleDataUtil;
+import homey.storage.AddressBookFileConverter;
+import homey.storage.AddressBookSaver;
 import homey.storage.AddressBookStorage;
-import homey.storage.JsonAddressBookStorage;
+import homey.storage.BinaryAddressBookStorage;
+import homey.storage.JournalAddressBookStorage;
 import homey.storage.JsonUserPrefsStorage;
 import homey.storage.Storage;
 import homey.storage.StorageManager;
@@ -32,14 +40,13 @@ import homey.ui.Ui;
 import homey.ui.UiManager;
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.stage.Stage;
 
 /**
  * Runs the application.
  */
 public class MainApp extends Application {
-    public static final long INTERVAL = 60000; // one minute
-
     public static final Version VERSION = new Version(0, 2, 2, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
@@ -47,9 +54,12 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AddressBookSaver addressBookSaver;
     protected Model model;
     protected Config config;
     private Timer meetingStatusTimer;
+    private TimerTask meetingStatusTask;
+    private LocalDateTime scheduledMeetingDeadline;
 
     @Override
     public void init() throws Exception {
@@ -60,19 +70,46 @@ public class MainApp extends Application {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(config.getUserPrefsFilePath(), config.getDataWriteMode());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
         model.updateMeetingOverdueStatus();
 
-        logic = new LogicManager(model, storage);
+        addressBookSaver = AddressBookSaver.inBackground(storage);
+        logic = new LogicManager(model, addressBookSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format in {@code userPrefs}. <br>
+     * If the data file of that format does not exist yet, it is converted from the data file of the other format,
+     * which is then kept only as a backup, so that changing the format, and later changing it back, keeps the data.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JournalAddressBookStorage(jsonFilePath, config.getDataWriteMode(),
+                config.getDataFileLayout());
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                AddressBookFileConverter.getBinaryFilePath(jsonFilePath), config.getDataWriteMode(),
+                config.getDataLoadMode());
+
+        boolean isBinary = userPrefs.getAddressBookFileFormat() == DataFileFormat.BINARY;
+        AddressBookStorage selected = isBinary ? binaryStorage : jsonStorage;
+        AddressBookStorage other = isBinary ? jsonStorage : binaryStorage;
+        try {
+            AddressBookFileConverter.convertIfMissing(other, selected);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert " + other.getAddressBookFilePath() + " to "
+                    + selected.getAddressBookFilePath() + ": " + e);
+        }
+        return selected;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -179,14 +216,43 @@ public class MainApp extends Application {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
 
-        // Schedule periodic updates
+        // Update the overdue status of meetings as they pass, rescheduling whenever the persons change
         meetingStatusTimer = new Timer(true); // daemon timer
-        meetingStatusTimer.scheduleAtFixedRate(new TimerTask() {
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                scheduleMeetingStatusUpdate());
+        scheduleMeetingStatusUpdate();
+    }
+
+    /**
+     * Schedules the overdue status of meetings to be updated when the earliest meeting that is not overdue yet passes.
+     * Must be called on the JavaFX application thread.
+     */
+    private void scheduleMeetingStatusUpdate() {
+        LocalDateTime deadline = model.getNextMeetingDeadline().orElse(null);
+        if (Objects.equals(deadline, scheduledMeetingDeadline)) {
+            return;
+        }
+        if (meetingStatusTask != null) {
+            meetingStatusTask.cancel();
+        }
+        scheduledMeetingDeadline = deadline;
+        if (deadline == null) {
+            return;
+        }
+
+        meetingStatusTask = new TimerTask() {
             @Override
             public void run() {
-                Platform.runLater(() -> model.updateMeetingOverdueStatus());
+                Platform.runLater(() -> {
+                    scheduledMeetingDeadline = null;
+                    model.updateMeetingOverdueStatus();
+                    scheduleMeetingStatusUpdate();
+                });
             }
-        }, INTERVAL, INTERVAL);
+        };
+        // a meeting is overdue once the current time is after it
+        long delay = Duration.between(LocalDateTime.now(), deadline).toMillis() + 1;
+        meetingStatusTimer.schedule(meetingStatusTask, Math.max(0, delay));
     }
 
     @Override
@@ -200,5 +266,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            addressBookSaver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -5,7 +5,10 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import homey.commons.util.DataLoadMode;
+import homey.commons.util.JsonLayout;
 import homey.commons.util.ToStringBuilder;
+import homey.commons.util.WriteMode;
 
 /**
  * Config values used by the app
@@ -13,10 +16,16 @@ import homey.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final WriteMode DEFAULT_DATA_WRITE_MODE = WriteMode.DURABLE;
+    public static final JsonLayout DEFAULT_DATA_FILE_LAYOUT = JsonLayout.PRETTY;
+    public static final DataLoadMode DEFAULT_DATA_LOAD_MODE = DataLoadMode.STREAMED;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private WriteMode dataWriteMode = DEFAULT_DATA_WRITE_MODE;
+    private JsonLayout dataFileLayout = DEFAULT_DATA_FILE_LAYOUT;
+    private DataLoadMode dataLoadMode = DEFAULT_DATA_LOAD_MODE;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +43,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public WriteMode getDataWriteMode() {
+        return dataWriteMode;
+    }
+
+    public void setDataWriteMode(WriteMode dataWriteMode) {
+        this.dataWriteMode = dataWriteMode;
+    }
+
+    public JsonLayout getDataFileLayout() {
+        return dataFileLayout;
+    }
+
+    public void setDataFileLayout(JsonLayout dataFileLayout) {
+        this.dataFileLayout = dataFileLayout;
+    }
+
+    public DataLoadMode getDataLoadMode() {
+        return dataLoadMode;
+    }
+
+    public void setDataLoadMode(DataLoadMode dataLoadMode) {
+        this.dataLoadMode = dataLoadMode;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +80,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(dataWriteMode, otherConfig.dataWriteMode)
+                && Objects.equals(dataFileLayout, otherConfig.dataFileLayout)
+                && Objects.equals(dataLoadMode, otherConfig.dataLoadMode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataWriteMode, dataFileLayout, dataLoadMode);
     }
 
     @Override
@@ -60,6 +96,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("dataWriteMode", dataWriteMode)
+                .add("dataFileLayout", dataFileLayout)
+                .add("dataLoadMode", dataLoadMode)
                 .toString();
     }
 
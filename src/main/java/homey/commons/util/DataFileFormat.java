@@ -0,0 +1,16 @@
+package homey.commons.util;
+
+/**
+ * The format the address book is stored in on disk.
+ */
+public enum DataFileFormat {
+    /**
+     * A JSON file, which can be read and edited by hand.
+     */
+    JSON,
+
+    /**
+     * A compact binary file, which is quicker to load and save but cannot be edited by hand.
+     */
+    BINARY
+}
@@ -0,0 +1,28 @@
+package homey.commons.util;
+
+/**
+ * How a binary data file is read, trading how much of it is copied into memory at startup against how long the file
+ * stays open.
+ */
+public enum DataLoadMode {
+    /**
+     * Reads the file through a buffered stream, and closes it once it has been read.
+     */
+    STREAMED,
+
+    /**
+     * Maps the file into memory and decodes every value directly from the mapping, without copying the file into a
+     * buffer first. The mapping is released once it is no longer used, which may be some time after reading.
+     */
+    MAPPED,
+
+    /**
+     * Like {@link #MAPPED}, but only keeps the fields shown in the person list. The phone, email, address and remark
+     * of each person are checked while reading, then left in the mapping and decoded again whenever they are needed,
+     * through a bounded cache. The file stays mapped as long as any person read from it is in use.
+     * This is only safe while saves replace the file rather than write over it: {@link WriteMode#ATOMIC} and
+     * {@link WriteMode#DURABLE} saves rename a new file over it, which leaves the mapped file intact, while
+     * {@link WriteMode#DIRECT} saves would overwrite it, so the file is read {@link #STREAMED} with that write mode.
+     */
+    LAZY
+}
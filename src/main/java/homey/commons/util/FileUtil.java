@@ -1,10 +1,17 @@
 package homey.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -13,6 +20,12 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    /** Suffix of the temporary file that a file is written to before it is renamed over the file. */
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** Size of the buffer between content written by a {@code FileContent} and the file. */
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -80,4 +93,83 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file in the given {@code WriteMode}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, String content, WriteMode writeMode) throws IOException {
+        if (writeMode == WriteMode.DIRECT) {
+            writeToFile(file, content);
+            return;
+        }
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)), writeMode);
+    }
+
+    /**
+     * Writes the given content to a file in the given {@code WriteMode}, as the content is produced, so the content
+     * does not have to be held in memory at once.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, FileContent content, WriteMode writeMode) throws IOException {
+        if (writeMode == WriteMode.DIRECT) {
+            writeThroughChannel(file, content, false);
+            return;
+        }
+
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            writeThroughChannel(tempFile, content, writeMode == WriteMode.DURABLE);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (writeMode == WriteMode.DURABLE) {
+            forceDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Writes {@code content} over {@code file} through a buffered channel, forcing it to disk if {@code isForced}.
+     */
+    private static void writeThroughChannel(Path file, FileContent content, boolean isForced) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            content.writeTo(out);
+            out.flush();
+            if (isForced) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Forces the entries of the given directory, such as a file renamed into it, to disk.
+     * Does nothing on platforms that cannot open a directory for this, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename itself has been done; only its durability is not guaranteed here
+        }
+    }
+
+    /**
+     * Content that is written to a file as it is produced.
+     */
+    @FunctionalInterface
+    public interface FileContent {
+        /**
+         * Writes the content to {@code out}, which must be left open.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -0,0 +1,16 @@
+package homey.commons.util;
+
+/**
+ * How the JSON written to a file is laid out.
+ */
+public enum JsonLayout {
+    /**
+     * Puts each field on a line of its own, indented by nesting, so the file is easy to read and edit by hand.
+     */
+    PRETTY,
+
+    /**
+     * Writes no whitespace between values, so the file is smaller and quicker to write and read.
+     */
+    COMPACT
+}
@@ -3,6 +3,8 @@ package homey.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +13,11 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,6 +49,11 @@ public class JsonUtil {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
 
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, WriteMode writeMode)
+            throws IOException {
+        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize), writeMode);
+    }
+
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
         return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
@@ -91,6 +102,45 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file in the given {@code WriteMode}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param writeMode cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, WriteMode writeMode) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+        requireNonNull(writeMode);
+
+        serializeObjectToJsonFile(filePath, jsonFile, writeMode);
+    }
+
+
+    /**
+     * Returns a parser over the JSON data in {@code in}, which reads values with the same settings as this class.
+     * The parser reads {@code in} as the values are asked for, so the data does not have to fit in memory at once.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        // the mapper's factory gives the parser the mapper as its codec, so values can be read with readValueAs
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes JSON values to {@code out} in the given {@code layout}, with the same settings
+     * as this class. Values are written to {@code out} as they are generated, and closing the generator leaves
+     * {@code out} open.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, JsonLayout layout) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (layout == JsonLayout.PRETTY) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        }
+        return generator;
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +161,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
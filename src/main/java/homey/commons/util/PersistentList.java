@@ -0,0 +1,306 @@
+package homey.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose updates return a new list that shares all but O(log n) of its structure with the old one.
+ *
+ * The elements are kept in a weight-balanced binary tree ordered by position, where each node records the size of its
+ * subtree. Getting, replacing, inserting and removing an element at a position walk a single path from the root,
+ * and an update only copies the nodes on that path, so every version of a list can be kept cheaply.
+ *
+ * @param <E> type of the elements.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    /** A subtree is rebalanced when the other side of its parent is more than {@code DELTA} times its weight. */
+    private static final int DELTA = 3;
+
+    /** Decides between a single and a double rotation when rebalancing. */
+    private static final int GAMMA = 2;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the given {@code elements}, built in linear time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return elements.isEmpty() ? empty() : new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this list.
+     */
+    public List<E> asList() {
+        return new AbstractList<>() {
+            @Override
+            public E get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return PersistentList.this.iterator();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements in order, which visits each node once.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements.get(middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, element), node.element, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.element, replace(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        } else {
+            return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else {
+            return join(node.left, node.right);
+        }
+    }
+
+    /**
+     * Joins two balanced subtrees whose sizes are within the balance bound of each other.
+     */
+    private static <E> Node<E> join(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.size > right.size) {
+            return balance(remove(left, left.size - 1), last(left), right);
+        } else {
+            return balance(left, first(right), remove(right, 0));
+        }
+    }
+
+    private static <E> E first(Node<E> node) {
+        Node<E> current = node;
+        while (current.left != null) {
+            current = current.left;
+        }
+        return current.element;
+    }
+
+    private static <E> E last(Node<E> node) {
+        Node<E> current = node;
+        while (current.right != null) {
+            current = current.right;
+        }
+        return current.element;
+    }
+
+    /**
+     * Returns a node with the given children and element, rotated if one side has become too heavy after a single
+     * insertion or removal.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftWeight = sizeOf(left) + 1;
+        int rightWeight = sizeOf(right) + 1;
+        if (rightWeight > DELTA * leftWeight) {
+            if (sizeOf(right.left) + 1 < GAMMA * (sizeOf(right.right) + 1)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(new Node<>(left, element, middle.left), middle.element,
+                    new Node<>(middle.right, right.element, right.right));
+        }
+        if (leftWeight > DELTA * rightWeight) {
+            if (sizeOf(left.right) + 1 < GAMMA * (sizeOf(left.left) + 1)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(new Node<>(left.left, left.element, middle.left), middle.element,
+                    new Node<>(middle.right, element, right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, keeping the path to the next node.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<E> root) {
+            pushLeftmost(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmost(node.right);
+            return node.element;
+        }
+
+        private void pushLeftmost(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+
+    /**
+     * A node of the tree, holding one element and the size of the subtree rooted at it.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+
+        private Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+        }
+    }
+}
@@ -5,13 +5,19 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("(?U)\\s+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +44,22 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the form of {@code s} used for searching: lowercase, without accents, and with every run of whitespace
+     * replaced by a single space and leading and trailing whitespace removed.
+     *   <br>examples:<pre>
+     *       toSearchKey("  Émile   ZOLA ") == "emile zola"
+     *       </pre>
+     * Returns {@code s} itself if it is already in that form, so that callers can keep both without a copy.
+     * @param s cannot be null
+     */
+    public static String toSearchKey(String s) {
+        requireNonNull(s);
+        String withoutAccents = COMBINING_MARKS.matcher(Normalizer.normalize(s, Normalizer.Form.NFD)).replaceAll("");
+        String folded = WHITESPACE.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+        return folded.equals(s) ? s : folded;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,24 @@
+package homey.commons.util;
+
+/**
+ * How a file is written, trading the cost of a write against what is left on disk if the app or the machine stops
+ * in the middle of it.
+ */
+public enum WriteMode {
+    /**
+     * Writes over the file in place. A crash during the write can leave the file truncated.
+     */
+    DIRECT,
+
+    /**
+     * Writes a temporary file next to the file and renames it over the file, so the file is always either the old or
+     * the new version. A power failure may still lose the latest write.
+     */
+    ATOMIC,
+
+    /**
+     * Like {@link #ATOMIC}, but also forces the temporary file to disk before renaming it and the directory after,
+     * so a write that has finished survives a power failure.
+     */
+    DURABLE
+}
@@ -3,6 +3,7 @@ package homey.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import homey.commons.core.GuiSettings;
@@ -17,6 +18,7 @@ import homey.logic.parser.exceptions.ParseException;
 import homey.model.Model;
 import homey.model.ReadOnlyAddressBook;
 import homey.model.person.Person;
+import homey.storage.AddressBookSaver;
 import homey.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -29,23 +31,49 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_BACKGROUND_SAVE_FAILED =
+            "Warning: an earlier change was not saved, and will be saved again. %s";
+
     public static final String CANCEL_COMMAND_WORD = "cancel";
     public static final String MESSAGE_CANCEL_COMMAND = "Command cancelled";
 
+    /** A version that no address book has, for when it is not known which version was saved. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
+    /** Whether {@code addressBookSaver} saves on the thread executing the commands, so its failures are theirs. */
+    private final boolean isSavedByCommands;
     private final AddressBookParser addressBookParser;
     private InteractiveCommand pendingInteractiveCommand;
 
+    /** The version of the model's address book when it was last given to be saved. */
+    private long savedVersion;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * on the thread executing the commands.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new AddressBookSaver(storage, Runnable::run), true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the address book with the given
+     * {@code AddressBookSaver}. A failed save is reported with the result of a later command, which does not fail.
+     */
+    public LogicManager(Model model, AddressBookSaver addressBookSaver) {
+        this(model, addressBookSaver, false);
+    }
+
+    private LogicManager(Model model, AddressBookSaver addressBookSaver, boolean isSavedByCommands) {
         this.model = model;
-        this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
+        this.isSavedByCommands = isSavedByCommands;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBook().getVersion();
     }
 
     @Override
@@ -66,16 +94,50 @@ public class LogicManager implements Logic {
 
             commandResult = command.execute(model);
         }
+        model.commitAddressBook();
+        Optional<String> saveWarning = saveAddressBookIfChanged();
+
+        return saveWarning.isPresent() ? commandResult.withNote(saveWarning.get()) : commandResult;
+    }
+
+    /**
+     * Gives a snapshot of the model's address book to be saved if it has changed since it was last given, or if an
+     * earlier save failed.
+     *
+     * @return a warning about a save that failed in the background, which is not the fault of the current command.
+     * @throws CommandException if this save failed when it is done on the thread executing the commands.
+     */
+    private Optional<String> saveAddressBookIfChanged() throws CommandException {
+        Optional<IOException> earlierFailure = addressBookSaver.takeFailure();
+        if (earlierFailure.isPresent()) {
+            savedVersion = UNSAVED_VERSION;
+        }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        long version = model.getAddressBook().getVersion();
+        if (version == savedVersion) {
+            logger.info("Address book unchanged, 0 bytes written");
+        } else {
+            addressBookSaver.save(model.getAddressBookSnapshot());
+            savedVersion = version;
         }
 
-        return commandResult;
+        Optional<IOException> failure = addressBookSaver.takeFailure();
+        if (failure.isPresent()) {
+            savedVersion = UNSAVED_VERSION;
+            if (isSavedByCommands) {
+                throw new CommandException(describeSaveFailure(failure.get()), failure.get());
+            }
+        } else {
+            failure = earlierFailure;
+        }
+        return failure.map(ioe -> String.format(MESSAGE_BACKGROUND_SAVE_FAILED, describeSaveFailure(ioe)));
+    }
+
+    private static String describeSaveFailure(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     private CommandResult handleInteractiveResponse(String input) throws CommandException, ParseException {
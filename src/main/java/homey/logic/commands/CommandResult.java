@@ -48,6 +48,14 @@ public class CommandResult {
         this.helpTopic = helpTopic == null ? Optional.empty() : helpTopic;
     }
 
+    /**
+     * Returns a copy of this result with {@code note} on a line of its own after the feedback.
+     */
+    public CommandResult withNote(String note) {
+        requireNonNull(note);
+        return new CommandResult(feedbackToUser + "\n" + note, showHelp, exit, helpTopic);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -140,7 +140,7 @@ public class EditCommand extends Command {
 
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
-     * edited with {@code editPersonDescriptor}.
+     * edited with {@code editPersonDescriptor}. The edited person keeps the id of {@code personToEdit}.
      */
     static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
@@ -159,7 +159,8 @@ public class EditCommand extends Command {
                 : personToEdit.getMeeting();
 
         Person edited = new Person(updatedName, updatedPhone, updatedEmail, updatedAddress,
-                updatedRelation, updatedStage, updatedRemark, updatedTags, updatedMeeting);
+                updatedRelation, updatedStage, updatedRemark, updatedTags, updatedMeeting)
+                .withId(personToEdit.getId());
         if (personToEdit.isArchived()) {
             edited = edited.archived();
         }
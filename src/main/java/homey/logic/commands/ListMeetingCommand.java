@@ -2,12 +2,10 @@ package homey.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.function.Predicate;
 
 import homey.model.Model;
-import homey.model.person.Meeting;
+import homey.model.person.HasActiveMeetingPredicate;
 import homey.model.person.Person;
 
 /**
@@ -18,22 +16,15 @@ public class ListMeetingCommand extends Command {
     public static final String MESSAGE_EMPTY = "No contacts with meetings found.";
     public static final String COMMAND_WORD = "list meeting";
 
-    private static final Predicate<Person> HAS_MEETING_ACTIVE =
-            p -> p.getMeeting() != null && p.getMeeting().isPresent() && !p.isArchived();
-
-    // Sort by meeting time ascending; if anything is missing, push to the end.
-    // If times are equal, break ties by name (case-insensitive A→Z).
-    private static final Comparator<Person> BY_MEETING_ASC = Comparator
-            .comparing((Person p) -> p.getMeeting()
-                    .map(Meeting::getDateTime)
-                    .orElse(LocalDateTime.MAX))
-            .thenComparing(p -> p.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+    // Shown straight from the meeting index, which is kept ordered by meeting time ascending, breaking ties by
+    // name (case-insensitive A→Z), so the list needs neither filtering nor sorting.
+    private static final Predicate<Person> HAS_MEETING_ACTIVE = new HasActiveMeetingPredicate();
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(HAS_MEETING_ACTIVE);
-        model.sortFilteredPersonListBy(BY_MEETING_ASC);
+        model.clearPersonListSorting();
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(MESSAGE_EMPTY);
         }
@@ -0,0 +1,28 @@
+package homey.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import homey.logic.commands.exceptions.CommandException;
+import homey.model.Model;
+
+/**
+ * Restores the address book to the state that the most recent undo command reverted.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,28 @@
+package homey.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import homey.logic.commands.exceptions.CommandException;
+import homey.model.Model;
+
+/**
+ * Reverts the address book to the state before the previous command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -238,7 +238,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         if (argMultimap.getValue(PREFIX_RELATION).isPresent()) {
             return ParserUtil.parseRelation(argMultimap.getValue(PREFIX_RELATION).get());
         } else {
-            return new Relation("client");
+            return Relation.of("client");
         }
     }
 
@@ -246,7 +246,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         if (argMultimap.getValue(PREFIX_REMARK).isPresent()) {
             return ParserUtil.parseRemark(argMultimap.getValue(PREFIX_REMARK).get());
         } else {
-            return new Remark("");
+            return Remark.EMPTY;
         }
     }
 
@@ -18,10 +18,12 @@ import homey.logic.commands.ExitCommand;
 import homey.logic.commands.FindCommand;
 import homey.logic.commands.HelpCommand;
 import homey.logic.commands.ListCommand;
+import homey.logic.commands.RedoCommand;
 import homey.logic.commands.RelationCommand;
 import homey.logic.commands.RemarkCommand;
 import homey.logic.commands.TransactionStageCommand;
 import homey.logic.commands.UnarchiveCommand;
+import homey.logic.commands.UndoCommand;
 import homey.logic.commands.ViewCommand;
 import homey.logic.parser.exceptions.ParseException;
 
@@ -110,6 +112,12 @@ public class AddressBookParser {
         case RemarkCommand.COMMAND_WORD:
             return new RemarkCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -112,7 +112,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -138,7 +138,7 @@ public class ParserUtil {
         if (trimmed.isEmpty() || !TransactionStage.isValid(trimmed)) {
             throw new ParseException(TransactionStage.MESSAGE_CONSTRAINTS);
         }
-        return new TransactionStage(trimmed);
+        return TransactionStage.of(trimmed);
     }
 
     /**
@@ -152,7 +152,7 @@ public class ParserUtil {
         if (trimmed.isEmpty() || !Relation.isValidRelation(trimmed)) {
             throw new ParseException(Relation.MESSAGE_CONSTRAINTS);
         }
-        return new Relation(trimmed);
+        return Relation.of(trimmed);
     }
 
     /**
@@ -164,7 +164,7 @@ public class ParserUtil {
         requireNonNull(remark);
         String trimmed = remark.trim();
         try {
-            return new Remark(trimmed);
+            return Remark.of(trimmed);
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
@@ -31,7 +31,7 @@ public class RemarkCommandParser implements Parser<RemarkCommand> {
         validatePrefix(argMultimap);
 
         String remarkValue = parseRemarkValue(argMultimap);
-        Remark remark = new Remark(remarkValue);
+        Remark remark = Remark.of(remarkValue);
         return new RemarkCommand(index, remark);
     }
 
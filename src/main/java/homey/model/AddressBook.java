@@ -2,9 +2,12 @@ package homey.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import homey.commons.util.ToStringBuilder;
+import homey.model.person.IndexedPredicate;
 import homey.model.person.Person;
 import homey.model.person.UniquePersonList;
 import javafx.collections.ObservableList;
@@ -43,6 +46,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: prefer it over repeated {@link #addPerson(Person)} calls when loading many persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
@@ -50,10 +54,16 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is another {@code AddressBook}, its persons are already known to be unique and are copied
+     * without being checked again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -75,6 +85,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at position {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    int indexOf(Person person) {
+        return persons.indexOf(person);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +119,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the persons in the address book that satisfy {@code predicate}, in list order.
+     * The matches are looked up from the indexes of the person list rather than by testing every person.
+     */
+    public List<Person> findPersons(IndexedPredicate predicate) {
+        return persons.find(predicate);
+    }
+
+    /**
+     * Marks the meetings that have passed at {@code now} as overdue.
+     */
+    public void updateOverdueMeetings(LocalDateTime now) {
+        persons.updateOverdueMeetings(now);
+    }
+
+    /**
+     * Returns the time of the earliest meeting that is not overdue yet, if any.
+     */
+    public Optional<LocalDateTime> getNextMeetingDeadline() {
+        return persons.getNextMeetingDeadline();
+    }
+
+    @Override
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
     //// util methods
 
     @Override
@@ -108,6 +160,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the active (non-archived) persons, in list order, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> getActivePersonList() {
+        return persons.asUnmodifiableActiveObservableList();
+    }
+
+    /**
+     * Returns the archived persons, in list order, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> getArchivedPersonList() {
+        return persons.asUnmodifiableArchivedObservableList();
+    }
+
+    /**
+     * Returns the active persons that have a meeting, earliest meeting first, as an unmodifiable
+     * {@code ObservableList}.
+     */
+    public ObservableList<Person> getActiveMeetingPersonList() {
+        return persons.asUnmodifiableActiveMeetingObservableList();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,45 @@
+package homey.model;
+
+import static java.util.Objects.requireNonNull;
+
+import homey.commons.util.PersistentList;
+import homey.commons.util.ToStringBuilder;
+import homey.model.person.Person;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An immutable view of the persons of an address book at one point in time, which can be read from any thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+
+    /**
+     * Creates an {@code AddressBookSnapshot} of {@code persons}, taken when the address book was at {@code version}.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, long version) {
+        requireNonNull(persons);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+        this.version = version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -0,0 +1,242 @@
+package homey.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import homey.commons.util.ToStringBuilder;
+import homey.model.person.Address;
+import homey.model.person.Email;
+import homey.model.person.Meeting;
+import homey.model.person.Name;
+import homey.model.person.Person;
+import homey.model.person.Phone;
+import homey.model.person.Remark;
+import homey.model.tag.Relation;
+import homey.model.tag.Tag;
+import homey.model.tag.TransactionStage;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A read-only address book that stores its persons column by column instead of as one object graph per person,
+ * for books with millions of persons.
+ *
+ * Each string field is a column of ids into a dictionary shared by all columns, so repeated values are stored once.
+ * Relation and transaction stage are stored as small codes, meetings as minutes since the epoch, and tags as one
+ * array of tag ids with an offset per person. {@code Person} objects are only created when the person list is read,
+ * and are not kept.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    /** Relation column value of a person without a relation. */
+    private static final byte NO_RELATION = -1;
+
+    /** Meeting column value of a person without a meeting. */
+    private static final long NO_MEETING = Long.MIN_VALUE;
+
+    private static final DateTimeFormatter MEETING_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm");
+
+    private final int size;
+    private final List<String> dictionary = new ArrayList<>();
+    private final List<String> relations = new ArrayList<>();
+    private final List<String> stages = new ArrayList<>();
+
+    private final long[] personIds;
+    private final int[] nameIds;
+    private final int[] phoneIds;
+    private final int[] emailIds;
+    private final int[] addressIds;
+    private final int[] remarkIds;
+    private final byte[] relationCodes;
+    private final byte[] stageCodes;
+    private final long[] meetingMinutes;
+    private final BitSet archived;
+
+    /** The tag ids of the person in row {@code i} are {@code tagIds[tagOffsets[i] .. tagOffsets[i + 1] - 1]}. */
+    private final int[] tagOffsets;
+    private final int[] tagIds;
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a {@code ColumnarAddressBook} holding the persons in {@code toBeCopied}.
+     */
+    public ColumnarAddressBook(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        List<Person> source = toBeCopied.getPersonList();
+        size = source.size();
+        personIds = new long[size];
+        nameIds = new int[size];
+        phoneIds = new int[size];
+        emailIds = new int[size];
+        addressIds = new int[size];
+        remarkIds = new int[size];
+        relationCodes = new byte[size];
+        stageCodes = new byte[size];
+        meetingMinutes = new long[size];
+        archived = new BitSet(size);
+        tagOffsets = new int[size + 1];
+
+        Map<String, Integer> ids = new HashMap<>();
+        Map<String, Integer> relationCodesByValue = new HashMap<>();
+        Map<String, Integer> stageCodesByValue = new HashMap<>();
+        int[] tags = new int[size];
+        int tagCount = 0;
+        for (int row = 0; row < size; row++) {
+            Person person = source.get(row);
+            personIds[row] = person.getId();
+            nameIds[row] = encode(person.getName().fullName, ids, dictionary);
+            phoneIds[row] = encode(person.getPhone().value, ids, dictionary);
+            emailIds[row] = encode(person.getEmail().value, ids, dictionary);
+            addressIds[row] = encode(person.getAddress().value, ids, dictionary);
+            remarkIds[row] = encode(person.getRemark().value, ids, dictionary);
+            relationCodes[row] = person.getRelation() == null
+                    ? NO_RELATION
+                    : (byte) encode(person.getRelation().value, relationCodesByValue, relations);
+            stageCodes[row] = (byte) encode(person.getStage().value, stageCodesByValue, stages);
+            meetingMinutes[row] = person.getMeeting()
+                    .map(meeting -> meeting.getDateTime().toEpochSecond(ZoneOffset.UTC) / 60)
+                    .orElse(NO_MEETING);
+            archived.set(row, person.isArchived());
+
+            tagOffsets[row] = tagCount;
+            for (Tag tag : person.getTags()) {
+                if (tagCount == tags.length) {
+                    tags = Arrays.copyOf(tags, Math.max(16, tags.length * 2));
+                }
+                tags[tagCount++] = encode(tag.tagName, ids, dictionary);
+            }
+        }
+        tagOffsets[size] = tagCount;
+        tagIds = Arrays.copyOf(tags, tagCount);
+
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonViews()));
+    }
+
+    /**
+     * Returns the number of persons in this address book.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the full name of the person in {@code row}, read from the name column without creating the person.
+     */
+    public String getFullName(int row) {
+        return dictionary.get(nameIds[row]);
+    }
+
+    /**
+     * Returns the address of the person in {@code row}, read from the address column without creating the person.
+     */
+    public String getAddressValue(int row) {
+        return dictionary.get(addressIds[row]);
+    }
+
+    /**
+     * Creates the {@code Person} in {@code row} from the columns.
+     */
+    public Person getPerson(int row) {
+        Set<Tag> tags = new HashSet<>();
+        for (int i = tagOffsets[row]; i < tagOffsets[row + 1]; i++) {
+            tags.add(Tag.of(dictionary.get(tagIds[i])));
+        }
+        Optional<Meeting> meeting = meetingMinutes[row] == NO_MEETING
+                ? Optional.empty()
+                : Optional.of(new Meeting(LocalDateTime.ofEpochSecond(meetingMinutes[row] * 60, 0, ZoneOffset.UTC)
+                        .format(MEETING_FORMATTER)));
+
+        Person person = new Person(new Name(dictionary.get(nameIds[row])), new Phone(dictionary.get(phoneIds[row])),
+                new Email(dictionary.get(emailIds[row])), new Address(dictionary.get(addressIds[row])),
+                relationCodes[row] == NO_RELATION ? null : Relation.of(relations.get(relationCodes[row])),
+                TransactionStage.of(stages.get(stageCodes[row])),
+                Remark.of(dictionary.get(remarkIds[row])), tags, meeting).withId(personIds[row]);
+        return archived.get(row) ? person.archived() : person;
+    }
+
+    /**
+     * Returns a list of the persons, each created from the columns when it is read.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns 0, as the persons in this address book never change.
+     */
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ColumnarAddressBook)) {
+            return false;
+        }
+
+        ColumnarAddressBook otherAddressBook = (ColumnarAddressBook) other;
+        return persons.equals(otherAddressBook.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", size)
+                .toString();
+    }
+
+    /**
+     * Returns the id of {@code value} in {@code values}, adding it if it is not there yet.
+     */
+    private static int encode(String value, Map<String, Integer> ids, List<String> values) {
+        return ids.computeIfAbsent(value, unused -> {
+            values.add(value);
+            return values.size() - 1;
+        });
+    }
+
+    /**
+     * The persons of this address book, created from the columns on each read.
+     */
+    private class PersonViews extends AbstractList<Person> implements RandomAccess {
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package homey.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import homey.model.person.IndexedPredicate;
+import homey.model.person.Person;
+
+/**
+ * Adapts an {@code IndexedPredicate} into a predicate for the filtered person list.
+ * The matching persons are looked up once from the indexes of the address book, so filtering the whole list only
+ * costs a membership check per person. After the address book changes, the filtered list only re-tests the persons
+ * that were added or replaced, so those are tested against the predicate directly instead of repeating the lookup.
+ * The address book changes its version before notifying the filtered list, so a person re-tested while a change is
+ * being reported is never judged by the matches looked up before it.
+ */
+class IndexedFilter implements Predicate<Person> {
+
+    private final AddressBook addressBook;
+    private final IndexedPredicate predicate;
+
+    private final Set<Person> matches;
+    private final long matchesVersion;
+
+    IndexedFilter(AddressBook addressBook, IndexedPredicate predicate) {
+        this.addressBook = addressBook;
+        this.predicate = predicate;
+        // persons are immutable, so identity is enough to tell whether a person is one of the matches
+        this.matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.matches.addAll(addressBook.findPersons(predicate));
+        this.matchesVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (matches.contains(person)) {
+            return true;
+        }
+        return matchesVersion != addressBook.getVersion() && predicate.test(person);
+    }
+}
@@ -1,10 +1,12 @@
 package homey.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import homey.commons.core.GuiSettings;
+import homey.model.person.ArchiveStatusPredicate;
 import homey.model.person.Person;
 import javafx.collections.ObservableList;
 
@@ -15,11 +17,11 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
-    /** {@code Predicate} that shows only non-archived persons. */
-    Predicate<Person> PREDICATE_SHOW_ACTIVE_PERSONS = p -> !p.isArchived();
+    /** {@code Predicate} that shows only non-archived persons, looked up from the archive status bitmap. */
+    Predicate<Person> PREDICATE_SHOW_ACTIVE_PERSONS = new ArchiveStatusPredicate(false);
 
-    /** {@code Predicate} that shows only archived persons. */
-    Predicate<Person> PREDICATE_SHOW_ARCHIVED_PERSONS = Person::isArchived;
+    /** {@code Predicate} that shows only archived persons, looked up from the archive status bitmap. */
+    Predicate<Person> PREDICATE_SHOW_ARCHIVED_PERSONS = new ArchiveStatusPredicate(true);
 
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
@@ -59,6 +61,37 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as it is now, which can be read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Saves the changes made to the address book since the last commit as a state that can be undone.
+     * Does nothing if the address book has not changed.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed address book state to go back to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone address book state to go forward to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book state that was last undone.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -90,9 +123,15 @@ public interface Model {
 
     Optional<Person> getSelectedPerson();
 
-    /** Updates the overdue status of all meetings in the address book */
+    /**
+     * Updates the overdue status of all meetings in the address book.
+     * Only the meetings that have passed since the previous update are visited.
+     */
     void updateMeetingOverdueStatus();
 
+    /** Returns the time of the earliest meeting that is not overdue yet, if any. */
+    Optional<LocalDateTime> getNextMeetingDeadline();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
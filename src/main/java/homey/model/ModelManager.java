@@ -4,6 +4,7 @@ import static homey.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -11,12 +12,10 @@ import java.util.logging.Logger;
 
 import homey.commons.core.GuiSettings;
 import homey.commons.core.LogsCenter;
-import homey.model.person.Meeting;
 import homey.model.person.Person;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
 /**
@@ -25,9 +24,9 @@ import javafx.collections.transformation.SortedList;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final PersonQueryView queryView;
     private final SortedList<Person> sortedPersons;
     private final ObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>(null);
 
@@ -40,13 +39,12 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryLimit(),
+                userPrefs.getUndoHistoryPersonLimit());
         this.userPrefs = new UserPrefs(userPrefs);
 
-        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        updateFilteredPersonList(PREDICATE_SHOW_ACTIVE_PERSONS);
-
-        this.sortedPersons = new SortedList<>(this.filteredPersons);
+        this.queryView = new PersonQueryView(this.addressBook, PREDICATE_SHOW_ACTIVE_PERSONS);
+        this.sortedPersons = new SortedList<>(this.queryView.getPersons());
 
     }
 
@@ -101,6 +99,36 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -126,8 +154,12 @@ public class ModelManager implements Model {
 
     @Override
     public void updateMeetingOverdueStatus() {
-        addressBook.getPersonList().forEach(person ->
-                person.getMeeting().ifPresent(Meeting::updateOverdueStatus));
+        addressBook.updateOverdueMeetings(LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<LocalDateTime> getNextMeetingDeadline() {
+        return addressBook.getNextMeetingDeadline();
     }
 
     //=========== Filtered / Sorted Person List Accessors ====================================================
@@ -138,10 +170,15 @@ public class ModelManager implements Model {
         return sortedPersons; // return the SortedList view
     }
 
+    /**
+     * {@inheritDoc}
+     * The filtered list is kept up to date with later changes to the address book, re-testing only the changed
+     * persons, so the whole address book is only filtered again if {@code predicate} differs from the current one.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        queryView.setQuery(predicate);
     }
 
     @Override
@@ -180,6 +217,6 @@ public class ModelManager implements Model {
         // equality on lists: compare the underlying filtered list (order-insensitive equality isn’t needed here)
         return addressBook.equals(o.addressBook)
                 && userPrefs.equals(o.userPrefs)
-                && filteredPersons.equals(o.filteredPersons);
+                && queryView.getPersons().equals(o.queryView.getPersons());
     }
 }
@@ -0,0 +1,91 @@
+package homey.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import homey.model.person.HasActiveMeetingPredicate;
+import homey.model.person.IndexedPredicate;
+import homey.model.person.Person;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * The persons of an address book that satisfy the current query, kept up to date as the address book changes.
+ *
+ * Once a query is set, a change to one person only re-tests that person, and the view is patched with the
+ * matching add, remove or update. The whole address book is only filtered again when the query changes, or when a
+ * query equal to the current one is set after the address book has changed; otherwise setting an equal query does
+ * nothing. Queries for all active or all archived persons show the matching partition of the address book directly,
+ * without testing any person, as does the query for active persons with a meeting, which shows the meeting index of
+ * the address book in meeting order.
+ */
+class PersonQueryView {
+
+    private static final HasActiveMeetingPredicate ACTIVE_MEETINGS_QUERY = new HasActiveMeetingPredicate();
+
+    private final AddressBook addressBook;
+    private final SourceSwitchingList<Person> sourcePersons;
+    private final FilteredList<Person> filteredPersons;
+    private Predicate<Person> query;
+    /** Version of the address book when {@code query} was last applied. */
+    private long queryVersion;
+
+    PersonQueryView(AddressBook addressBook, Predicate<Person> query) {
+        this.addressBook = requireNonNull(addressBook);
+        this.sourcePersons = new SourceSwitchingList<>(addressBook.getPersonList());
+        this.filteredPersons = new FilteredList<>(sourcePersons);
+        setQuery(query);
+    }
+
+    /**
+     * Returns the persons satisfying the current query, in address book order, or earliest meeting first for the
+     * query for active persons with a meeting.
+     */
+    ObservableList<Person> getPersons() {
+        return filteredPersons;
+    }
+
+    Predicate<Person> getQuery() {
+        return query;
+    }
+
+    /**
+     * Shows the persons satisfying {@code newQuery}. Nothing is re-tested if it is equal to the current query and
+     * the address book has not changed since that query was applied, so running a query again after a change always
+     * shows its up-to-date results.
+     */
+    void setQuery(Predicate<Person> newQuery) {
+        requireNonNull(newQuery);
+        if (newQuery.equals(query) && addressBook.getVersion() == queryVersion) {
+            return;
+        }
+        query = newQuery;
+        queryVersion = addressBook.getVersion();
+
+        if (Model.PREDICATE_SHOW_ACTIVE_PERSONS.equals(newQuery)) {
+            showPartition(addressBook.getActivePersonList());
+            return;
+        }
+        if (Model.PREDICATE_SHOW_ARCHIVED_PERSONS.equals(newQuery)) {
+            showPartition(addressBook.getArchivedPersonList());
+            return;
+        }
+        if (ACTIVE_MEETINGS_QUERY.equals(newQuery)) {
+            showPartition(addressBook.getActiveMeetingPersonList());
+            return;
+        }
+
+        sourcePersons.setSource(addressBook.getPersonList());
+        if (newQuery instanceof IndexedPredicate) {
+            filteredPersons.setPredicate(new IndexedFilter(addressBook, (IndexedPredicate) newQuery));
+            return;
+        }
+        filteredPersons.setPredicate(newQuery);
+    }
+
+    private void showPartition(ObservableList<Person> partition) {
+        sourcePersons.setSource(partition);
+        filteredPersons.setPredicate(null);
+    }
+}
@@ -14,4 +14,9 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever the persons in this address book change.
+     */
+    long getVersion();
+
 }
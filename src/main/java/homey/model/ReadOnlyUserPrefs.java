@@ -3,6 +3,7 @@ package homey.model;
 import java.nio.file.Path;
 
 import homey.commons.core.GuiSettings;
+import homey.commons.util.DataFileFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /** Returns the format the address book is stored in. */
+    DataFileFormat getAddressBookFileFormat();
+
+    /** Returns the number of commands that can be undone. */
+    int getUndoHistoryLimit();
+
+    /**
+     * Returns the approximate number of persons the undo history may keep, counting one per person changed by a
+     * command, and every person for a command that replaces the whole address book.
+     */
+    int getUndoHistoryPersonLimit();
+
 }
@@ -0,0 +1,89 @@
+package homey.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only view of one of several observable lists, which can be switched to another list at any time.
+ * Changes to the current list are passed on to the listeners of this view, and switching lists is reported as
+ * the whole content being replaced, so lists built on top of this view do not need to be rebuilt.
+ */
+class SourceSwitchingList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::forwardChange;
+    private ObservableList<E> source;
+
+    SourceSwitchingList(ObservableList<E> source) {
+        this.source = requireNonNull(source);
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Makes this view show {@code newSource} instead of the current list.
+     */
+    void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(source);
+        source.removeListener(sourceListener);
+        source = newSource;
+        source.addListener(sourceListener);
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!source.isEmpty()) {
+            nextAdd(0, source.size());
+        }
+        endChange();
+    }
+
+    ObservableList<E> getSource() {
+        return source;
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(from, to, change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            } else {
+                nextAdd(from, to);
+            }
+        }
+        endChange();
+    }
+}
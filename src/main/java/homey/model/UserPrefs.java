@@ -1,5 +1,6 @@
 package homey.model;
 
+import static homey.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
@@ -7,14 +8,26 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import homey.commons.core.GuiSettings;
+import homey.commons.util.DataFileFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+
+    /**
+     * Enough for the default number of undoable commands to each clear an address book of 500 persons, while keeping
+     * the history to a few tens of megabytes at about a kilobyte per person.
+     */
+    public static final int DEFAULT_UNDO_HISTORY_PERSON_LIMIT = 50_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "homey.json");
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private int undoHistoryPersonLimit = DEFAULT_UNDO_HISTORY_PERSON_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistoryPersonLimit(newUserPrefs.getUndoHistoryPersonLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +72,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, "Undo history limit must not be negative.");
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public int getUndoHistoryPersonLimit() {
+        return undoHistoryPersonLimit;
+    }
+
+    public void setUndoHistoryPersonLimit(int undoHistoryPersonLimit) {
+        checkArgument(undoHistoryPersonLimit >= 0, "Undo history person limit must not be negative.");
+        this.undoHistoryPersonLimit = undoHistoryPersonLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +112,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit
+                && undoHistoryPersonLimit == otherUserPrefs.undoHistoryPersonLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, undoHistoryLimit,
+                undoHistoryPersonLimit);
     }
 
     @Override
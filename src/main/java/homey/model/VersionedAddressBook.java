@@ -0,0 +1,270 @@
+package homey.model;
+
+import static homey.commons.util.AppUtil.checkArgument;
+import static homey.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import homey.commons.util.PersistentList;
+import homey.model.person.Person;
+
+/**
+ * An {@code AddressBook} that keeps a bounded history of its states, so that changes can be undone and redone.
+ *
+ * Each state holds a {@link PersistentList} snapshot of the persons, which shares all unchanged structure with the
+ * snapshots before it, so committing a state costs O(log n) time and memory per changed person instead of a copy of
+ * the address book. Each state also records the person-level changes that produced it, so undoing or redoing a
+ * command only applies those changes again, while states produced by bulk changes such as {@code clear} are
+ * restored from their snapshot.
+ *
+ * Besides the number of states, the history is bounded by the approximate number of persons it keeps alive: a state
+ * produced by person-level changes keeps about one person per change, as the rest of its snapshot is shared, while a
+ * state produced by a bulk change keeps a whole copy of the persons. The oldest states are dropped once either bound
+ * is exceeded, except that the latest change can always be undone.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    private final List<State> addressBookStateList = new ArrayList<>();
+    private final int historyLimit;
+    private final int historyPersonLimit;
+    private int currentStatePointer;
+
+    /** Sum of {@code State#retainedPersons} over every state after the oldest one. */
+    private long historyPersons;
+
+    /** The persons as they are now, including changes not committed yet. */
+    private PersistentList<Person> snapshot;
+    private List<Change> pendingChanges = new ArrayList<>();
+    private boolean hasPendingBulkChange;
+
+    /**
+     * Creates a {@code VersionedAddressBook} holding the persons in {@code initialState}, which keeps at most
+     * {@code historyLimit} states that can be undone, however many persons they keep.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
+        this(initialState, historyLimit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} holding the persons in {@code initialState}, which keeps at most
+     * {@code historyLimit} states that can be undone, and only as many of them as keep about
+     * {@code historyPersonLimit} persons alive.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit, int historyPersonLimit) {
+        super();
+        requireNonNull(initialState);
+        checkArgument(historyLimit >= 0, "History limit must not be negative.");
+        checkArgument(historyPersonLimit >= 0, "History person limit must not be negative.");
+        super.resetData(initialState);
+        this.historyLimit = historyLimit;
+        this.historyPersonLimit = historyPersonLimit;
+        this.snapshot = PersistentList.of(getPersonList());
+        this.hasPendingBulkChange = false;
+        addressBookStateList.add(new State(snapshot, null));
+    }
+
+    //// recorded operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        super.setPersons(persons);
+        recordBulkChange();
+    }
+
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        super.resetData(newData);
+        recordBulkChange();
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        int slot = getPersonList().size() - 1;
+        snapshot = snapshot.plus(p);
+        pendingChanges.add(new Change(slot, null, p));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        int slot = indexOf(target);
+        Person stored = slot == -1 ? target : getPersonList().get(slot);
+        super.setPerson(target, editedPerson);
+        snapshot = snapshot.with(slot, editedPerson);
+        pendingChanges.add(new Change(slot, stored, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        requireNonNull(key);
+        int slot = indexOf(key);
+        Person stored = slot == -1 ? key : getPersonList().get(slot);
+        super.removePerson(key);
+        snapshot = snapshot.minus(slot);
+        pendingChanges.add(new Change(slot, stored, null));
+    }
+
+    /**
+     * Returns an immutable snapshot of the persons as they are now, including changes not committed yet.
+     * Taking it costs O(1), and it can be read from any thread.
+     */
+    public ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookSnapshot(snapshot, getVersion());
+    }
+
+    //// history operations
+
+    /**
+     * Saves the changes made since the last commit as a new state in the history.
+     * States that were undone are discarded, and the oldest states are dropped once the history keeps more states or
+     * more persons than its limits allow.
+     * Does nothing if nothing has changed since the last commit.
+     */
+    public void commit() {
+        if (pendingChanges.isEmpty() && !hasPendingBulkChange) {
+            return;
+        }
+
+        List<State> undoneStates = addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size());
+        undoneStates.forEach(state -> historyPersons -= state.retainedPersons);
+        undoneStates.clear();
+        State state = new State(snapshot, hasPendingBulkChange ? null : pendingChanges);
+        addressBookStateList.add(state);
+        historyPersons += state.retainedPersons;
+        currentStatePointer++;
+        while (addressBookStateList.size() > historyLimit + 1
+                || (historyPersons > historyPersonLimit && currentStatePointer > 1)) {
+            dropOldestState();
+        }
+        pendingChanges = new ArrayList<>();
+        hasPendingBulkChange = false;
+    }
+
+    /**
+     * Drops the oldest state, so that the state after it can no longer be undone and becomes the oldest.
+     */
+    private void dropOldestState() {
+        addressBookStateList.remove(0);
+        currentStatePointer--;
+        historyPersons -= addressBookStateList.get(0).retainedPersons;
+    }
+
+    /**
+     * Returns true if there is a committed state to go back to.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if there is an undone state to go forward to.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < addressBookStateList.size() - 1;
+    }
+
+    /**
+     * Restores the previous state from the history. Changes not committed yet are committed first.
+     */
+    public void undo() {
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no state to undo.");
+        }
+
+        State current = addressBookStateList.get(currentStatePointer);
+        State previous = addressBookStateList.get(currentStatePointer - 1);
+        if (current.changes == null) {
+            super.setPersons(previous.snapshot.asList());
+        } else {
+            for (int i = current.changes.size() - 1; i >= 0; i--) {
+                revert(current.changes.get(i));
+            }
+        }
+        currentStatePointer--;
+        snapshot = previous.snapshot;
+    }
+
+    /**
+     * Restores the state that was last undone.
+     */
+    public void redo() {
+        commit();
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no state to redo.");
+        }
+
+        State next = addressBookStateList.get(currentStatePointer + 1);
+        if (next.changes == null) {
+            super.setPersons(next.snapshot.asList());
+        } else {
+            for (Change change : next.changes) {
+                apply(change);
+            }
+        }
+        currentStatePointer++;
+        snapshot = next.snapshot;
+    }
+
+    private void recordBulkChange() {
+        snapshot = PersistentList.of(getPersonList());
+        pendingChanges.clear();
+        hasPendingBulkChange = true;
+    }
+
+    private void apply(Change change) {
+        if (change.before == null) {
+            super.addPerson(change.slot, change.after);
+        } else if (change.after == null) {
+            super.removePerson(change.before);
+        } else {
+            super.setPerson(change.before, change.after);
+        }
+    }
+
+    private void revert(Change change) {
+        if (change.before == null) {
+            super.removePerson(change.after);
+        } else if (change.after == null) {
+            super.addPerson(change.slot, change.before);
+        } else {
+            super.setPerson(change.after, change.before);
+        }
+    }
+
+    /**
+     * A committed state of the address book.
+     * {@code changes} are the changes from the state before it, or null if it was produced by a bulk change.
+     * {@code retainedPersons} approximates the persons kept alive by this state and not by the state before it.
+     */
+    private static class State {
+        private final PersistentList<Person> snapshot;
+        private final List<Change> changes;
+        private final int retainedPersons;
+
+        State(PersistentList<Person> snapshot, List<Change> changes) {
+            this.snapshot = snapshot;
+            this.changes = changes;
+            this.retainedPersons = changes == null ? snapshot.size() : changes.size();
+        }
+    }
+
+    /**
+     * A change to the person at {@code slot}: an addition if {@code before} is null, a removal if {@code after} is
+     * null, and a replacement otherwise.
+     */
+    private static class Change {
+        private final int slot;
+        private final Person before;
+        private final Person after;
+
+        Change(int slot, Person before, Person after) {
+            this.slot = slot;
+            this.before = before;
+            this.after = after;
+        }
+    }
+}
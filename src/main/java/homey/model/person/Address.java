@@ -3,6 +3,8 @@ package homey.model.person;
 import static homey.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import homey.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -19,6 +21,9 @@ public class Address {
 
     public final String value;
 
+    /** {@code value} as matched by searches, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * Constructs an {@code Address}.
      *
@@ -28,6 +33,7 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        searchKey = StringUtil.toSearchKey(address);
     }
 
     /**
@@ -37,6 +43,10 @@ public class Address {
         return test.matches(VALIDATION_REGEX);
     }
 
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -2,16 +2,19 @@ package homey.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.function.Predicate;
+
+import homey.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Address} matches the given query.
  * If phraseMode == false: match if address contains ANY keyword (case-insensitive).
+ * Matching ignores accents and differences in whitespace.
  * If phraseMode == true : treat the first element as a single contiguous phrase.
+ * Matches can be looked up from the address index of a {@link UniquePersonList}.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements IndexedPredicate {
 
     private final List<String> keywordsLowerCased;
     private final boolean phraseMode;
@@ -36,14 +39,14 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
     public AddressContainsKeywordsPredicate(List<String> keywords, boolean phraseMode) {
         requireNonNull(keywords);
         this.keywordsLowerCased = keywords.stream()
-                .map(k -> k == null ? "" : k.toLowerCase(Locale.ROOT))
+                .map(k -> k == null ? "" : StringUtil.toSearchKey(k))
                 .toList();
         this.phraseMode = phraseMode;
     }
 
     @Override
     public boolean test(Person person) {
-        String addr = person.getAddress().value.toLowerCase(Locale.ROOT);
+        String addr = person.getAddress().getSearchKey();
         if (phraseMode) {
             String phrase = keywordsLowerCased.isEmpty() ? "" : keywordsLowerCased.get(0);
             return !phrase.isEmpty() && addr.contains(phrase);
@@ -56,6 +59,16 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
         return false;
     }
 
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        if (phraseMode) {
+            return keywordsLowerCased.isEmpty()
+                    ? new BitSet()
+                    : persons.findByAddressKeywords(keywordsLowerCased.subList(0, 1));
+        }
+        return persons.findByAddressKeywords(keywordsLowerCased);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
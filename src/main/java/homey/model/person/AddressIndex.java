@@ -0,0 +1,252 @@
+package homey.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A positional inverted index from the whitespace-separated tokens of address search keys to the names of the
+ * persons having them, and the positions at which the tokens occur in each address.
+ *
+ * A keyword without whitespace can only occur within a single token. The distinct tokens are themselves indexed by
+ * their substrings of up to three characters, as in {@link NameTrigramIndex}, so the tokens containing a keyword are
+ * found by intersecting the tokens containing each of its trigrams rather than by scanning every token. A phrase
+ * spanning several tokens is looked up by intersecting the postings of its words at adjacent positions, and only
+ * those candidates are checked for the whole phrase. Both preserve the partial, case-insensitive matching of
+ * {@link AddressContainsKeywordsPredicate}.
+ */
+class AddressIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Map<Name, List<Integer>>> postingsByToken = new HashMap<>();
+
+    /** Distinct tokens of {@code postingsByToken} containing each substring of up to three characters. */
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+
+    /** Address search key of each indexed person, used to verify phrase candidates. */
+    private final Map<Name, String> addressesByName = new HashMap<>();
+
+    /**
+     * Indexes the address of {@code person}.
+     */
+    void add(Person person) {
+        Name name = person.getName();
+        String address = toKey(person);
+        addressesByName.put(name, address);
+
+        String[] tokens = tokenize(address);
+        for (int position = 0; position < tokens.length; position++) {
+            postingsByToken.computeIfAbsent(tokens[position], this::addToken)
+                    .computeIfAbsent(name, unused -> new ArrayList<>())
+                    .add(position);
+        }
+    }
+
+    /**
+     * Indexes the substrings of {@code token}, which has just been seen for the first time.
+     *
+     * @return the empty postings of {@code token}.
+     */
+    private Map<Name, List<Integer>> addToken(String token) {
+        for (String gram : gramsOf(token)) {
+            tokensByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(token);
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Removes the address of {@code person} from the index.
+     */
+    void remove(Person person) {
+        Name name = person.getName();
+        addressesByName.remove(name);
+        for (String token : tokenize(toKey(person))) {
+            Map<Name, List<Integer>> postings = postingsByToken.get(token);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(name);
+            if (postings.isEmpty()) {
+                postingsByToken.remove(token);
+                removeToken(token);
+            }
+        }
+    }
+
+    /**
+     * Removes the substrings of {@code token}, which no indexed address has any more.
+     */
+    private void removeToken(String token) {
+        for (String gram : gramsOf(token)) {
+            Set<String> tokens = tokensByGram.get(gram);
+            if (tokens == null) {
+                continue;
+            }
+            tokens.remove(token);
+            if (tokens.isEmpty()) {
+                tokensByGram.remove(gram);
+            }
+        }
+    }
+
+    void clear() {
+        postingsByToken.clear();
+        tokensByGram.clear();
+        addressesByName.clear();
+    }
+
+    /**
+     * Returns the names of persons whose address contains any of the non-empty {@code keywordsLowerCased}.
+     */
+    Set<Name> find(List<String> keywordsLowerCased) {
+        Set<Name> matches = new HashSet<>();
+        for (String keyword : keywordsLowerCased) {
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            String[] words = tokenize(keyword);
+            if (words.length == 1 && words[0].equals(keyword)) {
+                for (String token : tokensContaining(keyword)) {
+                    matches.addAll(postingsByToken.get(token).keySet());
+                }
+            } else {
+                matches.addAll(findPhrase(keyword));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the names of persons whose address contains {@code phraseLowerCased}, which may span several tokens.
+     */
+    private Set<Name> findPhrase(String phraseLowerCased) {
+        String[] words = tokenize(phraseLowerCased);
+        Set<Name> candidates = words.length == 0
+                ? addressesByName.keySet()
+                : findAdjacent(words).keySet();
+
+        Set<Name> matches = new HashSet<>();
+        for (Name candidate : candidates) {
+            if (addressesByName.get(candidate).contains(phraseLowerCased)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns, for each name, the positions at which {@code words} can occur as consecutive tokens of its address.
+     * The first word may be the end of a token and the last word the start of one, as a phrase can begin or end in
+     * the middle of a token.
+     */
+    private Map<Name, Set<Integer>> findAdjacent(String[] words) {
+        Map<Name, Set<Integer>> starts = null;
+        for (int i = 0; i < words.length; i++) {
+            Map<Name, Set<Integer>> next = new HashMap<>();
+            for (String token : tokensMatching(words[i], i == 0, i == words.length - 1)) {
+                for (Map.Entry<Name, List<Integer>> posting : postingsByToken.get(token).entrySet()) {
+                    Set<Integer> previousStarts = starts == null ? null : starts.get(posting.getKey());
+                    if (starts != null && previousStarts == null) {
+                        continue;
+                    }
+                    for (int position : posting.getValue()) {
+                        int start = position - i;
+                        if (previousStarts == null || previousStarts.contains(start)) {
+                            next.computeIfAbsent(posting.getKey(), unused -> new HashSet<>()).add(start);
+                        }
+                    }
+                }
+            }
+            starts = next;
+            if (starts.isEmpty()) {
+                break;
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * Returns the tokens that {@code word} can match, given whether it is the first and/or the last word of a phrase.
+     */
+    private List<String> tokensMatching(String word, boolean isFirst, boolean isLast) {
+        if (isFirst && isLast) {
+            return tokensContaining(word);
+        }
+        if (!isFirst && !isLast) {
+            return postingsByToken.containsKey(word) ? List.of(word) : List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : tokensContaining(word)) {
+            if (isFirst ? token.endsWith(word) : token.startsWith(word)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the distinct tokens containing the non-empty {@code keyword}.
+     */
+    private List<String> tokensContaining(String keyword) {
+        if (keyword.length() <= GRAM_LENGTH) {
+            return List.copyOf(tokensByGram.getOrDefault(keyword, Set.of()));
+        }
+
+        List<Set<String>> postings = new ArrayList<>();
+        for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+            Set<String> tokens = tokensByGram.get(keyword.substring(start, start + GRAM_LENGTH));
+            if (tokens == null) {
+                return List.of();
+            }
+            postings.add(tokens);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        List<String> matches = new ArrayList<>();
+        for (String candidate : postings.get(0)) {
+            if (isInAll(candidate, postings) && candidate.contains(keyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean isInAll(String token, List<Set<String>> postings) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns every substring of {@code token} of one to three characters.
+     */
+    private static Set<String> gramsOf(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < token.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, token.length()); end++) {
+                grams.add(token.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private static String[] tokenize(String text) {
+        String[] tokens = text.split("\\s+");
+        // splitting text that starts with whitespace yields an empty first token
+        return tokens.length > 0 && tokens[0].isEmpty() ? Arrays.copyOfRange(tokens, 1, tokens.length) : tokens;
+    }
+
+    private static String toKey(Person person) {
+        return person.getAddress().getSearchKey();
+    }
+}
@@ -0,0 +1,48 @@
+package homey.model.person;
+
+import java.util.BitSet;
+
+import homey.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} is archived, or that it is active (not archived).
+ * Matches can be looked up from the archive status bitmap of a {@link UniquePersonList}.
+ */
+public class ArchiveStatusPredicate implements IndexedPredicate {
+    private final boolean isArchived;
+
+    /**
+     * Constructs an {@code ArchiveStatusPredicate} matching archived persons if {@code isArchived} is true,
+     * and active persons otherwise.
+     */
+    public ArchiveStatusPredicate(boolean isArchived) {
+        this.isArchived = isArchived;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.isArchived() == isArchived;
+    }
+
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        return persons.findByArchiveStatus(isArchived);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ArchiveStatusPredicate)
+                && isArchived == ((ArchiveStatusPredicate) other).isArchived;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(isArchived);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("isArchived", isArchived).toString();
+    }
+}
@@ -0,0 +1,150 @@
+package homey.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bitmap index over the positions of persons in a {@link UniquePersonList}, for a field with few distinct values.
+ * Each value of the field maps to a bitmap in which the positions of the persons having that value are set, so that
+ * persons can be selected by value, and selections combined, with bitwise operations. The bitmaps are kept as arrays
+ * of 64-bit words, so that the positions before a given one can be counted a word at a time without copying.
+ *
+ * @param <K> type of the indexed field value.
+ */
+class BitmapIndex<K> {
+
+    private final Function<Person, K> keyExtractor;
+    private final Map<K, long[]> wordsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index on the field returned by {@code keyExtractor}.
+     */
+    BitmapIndex(Function<Person, K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Records that {@code person} is at position {@code slot}.
+     */
+    void add(int slot, Person person) {
+        wordsByKey.compute(keyExtractor.apply(person), (key, words) -> setBit(words, slot));
+    }
+
+    /**
+     * Clears position {@code slot}, which holds {@code person}, without moving the positions after it.
+     */
+    void remove(int slot, Person person) {
+        long[] words = wordsByKey.get(keyExtractor.apply(person));
+        if (words != null && slot >>> 6 < words.length) {
+            words[slot >>> 6] &= ~(1L << slot);
+        }
+    }
+
+    /**
+     * Moves every position after {@code removedSlot} down by one, following the removal of the person at
+     * {@code removedSlot} from the list.
+     */
+    void shiftDown(int removedSlot) {
+        wordsByKey.replaceAll((key, words) -> removeBit(words, removedSlot));
+    }
+
+    /**
+     * Moves every position from {@code insertedSlot} onwards up by one, before a person is inserted at
+     * {@code insertedSlot} in the list.
+     */
+    void shiftUp(int insertedSlot) {
+        wordsByKey.replaceAll((key, words) -> insertBit(words, insertedSlot));
+    }
+
+    void clear() {
+        wordsByKey.clear();
+    }
+
+    /**
+     * Returns the positions of the persons whose field value is {@code key}.
+     * The returned {@code BitSet} is a copy owned by the caller.
+     */
+    BitSet get(K key) {
+        long[] words = wordsByKey.get(key);
+        return words == null ? new BitSet() : BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns the number of positions before {@code slot} held by persons whose field value is {@code key}.
+     */
+    int countBefore(K key, int slot) {
+        long[] words = wordsByKey.get(key);
+        if (words == null) {
+            return 0;
+        }
+        int last = Math.min(slot >>> 6, words.length);
+        int count = 0;
+        for (int i = 0; i < last; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        if (last < words.length) {
+            count += Long.bitCount(words[last] & ((1L << (slot & 63)) - 1));
+        }
+        return count;
+    }
+
+    /**
+     * Returns {@code words}, or a larger copy of it if needed, with the bit at {@code index} set.
+     */
+    private static long[] setBit(long[] words, int index) {
+        int word = index >>> 6;
+        long[] result = words == null ? new long[word + 1] : words;
+        if (word >= result.length) {
+            result = Arrays.copyOf(result, Math.max(word + 1, result.length * 2));
+        }
+        result[word] |= 1L << index;
+        return result;
+    }
+
+    /**
+     * Removes the bit at {@code index} from {@code words}, moving every higher bit down by one in place.
+     *
+     * @return {@code words}.
+     */
+    static long[] removeBit(long[] words, int index) {
+        int first = index >>> 6;
+        if (first >= words.length) {
+            return words;
+        }
+
+        long lowMask = (1L << (index & 63)) - 1;
+        words[first] = (words[first] & lowMask) | ((words[first] >>> 1) & ~lowMask);
+        for (int i = first; i < words.length; i++) {
+            if (i > first) {
+                words[i] >>>= 1;
+            }
+            if (i + 1 < words.length) {
+                words[i] |= words[i + 1] << 63;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Inserts a clear bit at {@code index} into {@code words}, moving every bit from {@code index} onwards up by one.
+     *
+     * @return {@code words}, or a copy one word longer if its highest bit had to move into a new word.
+     */
+    static long[] insertBit(long[] words, int index) {
+        int first = index >>> 6;
+        if (first >= words.length) {
+            return words;
+        }
+
+        long[] shifted = words[words.length - 1] < 0 ? Arrays.copyOf(words, words.length + 1) : words;
+        for (int i = shifted.length - 1; i > first; i--) {
+            shifted[i] = (shifted[i] << 1) | (shifted[i - 1] >>> 63);
+        }
+        long lowMask = (1L << (index & 63)) - 1;
+        shifted[first] = (shifted[first] & lowMask) | ((shifted[first] & ~lowMask) << 1);
+        return shifted;
+    }
+}
@@ -0,0 +1,69 @@
+package homey.model.person;
+
+import static homey.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * The phone, email, address and remark of a Person, which are only needed when the person is viewed, edited or
+ * searched by address, so a person may read them from its data file on demand instead of keeping them.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class ContactDetails {
+
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Remark remark;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ContactDetails(Phone phone, Email email, Address address, Remark remark) {
+        requireAllNonNull(phone, email, address, remark);
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.remark = remark;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public Remark getRemark() {
+        return remark;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactDetails)) {
+            return false;
+        }
+
+        ContactDetails otherDetails = (ContactDetails) other;
+        return phone.equals(otherDetails.phone)
+                && email.equals(otherDetails.email)
+                && address.equals(otherDetails.address)
+                && remark.equals(otherDetails.remark);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(phone, email, address, remark);
+    }
+
+}
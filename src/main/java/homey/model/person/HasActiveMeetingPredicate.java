@@ -0,0 +1,35 @@
+package homey.model.person;
+
+import java.util.BitSet;
+
+/**
+ * Tests that a {@code Person} is active (not archived) and has a meeting.
+ * Matches can be looked up from the meeting index of a {@link UniquePersonList}.
+ */
+public class HasActiveMeetingPredicate implements IndexedPredicate {
+
+    @Override
+    public boolean test(Person person) {
+        return MeetingIndex.isIndexed(person);
+    }
+
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        return persons.findByActiveMeeting();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof HasActiveMeetingPredicate;
+    }
+
+    @Override
+    public int hashCode() {
+        return HasActiveMeetingPredicate.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return HasActiveMeetingPredicate.class.getCanonicalName();
+    }
+}
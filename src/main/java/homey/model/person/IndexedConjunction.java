@@ -0,0 +1,74 @@
+package homey.model.person;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import homey.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} satisfies both an {@code IndexedPredicate} and a second predicate.
+ * Matches are resolved from the index of the first predicate. If the second predicate is also indexed, its matches
+ * are intersected with them; otherwise the second predicate is only tested on those candidates.
+ */
+class IndexedConjunction implements IndexedPredicate {
+    private final IndexedPredicate first;
+    private final Predicate<? super Person> second;
+
+    IndexedConjunction(IndexedPredicate first, Predicate<? super Person> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        BitSet slots = first.resolve(persons);
+        if (second instanceof IndexedPredicate) {
+            slots.and(((IndexedPredicate) second).resolve(persons));
+            return slots;
+        }
+
+        List<Person> list = persons.asUnmodifiableObservableList();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            if (!second.test(list.get(slot))) {
+                slots.clear(slot);
+            }
+        }
+        return slots;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return first.test(person) && second.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexedConjunction)) {
+            return false;
+        }
+
+        IndexedConjunction otherConjunction = (IndexedConjunction) other;
+        return first.equals(otherConjunction.first)
+                && second.equals(otherConjunction.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("second", second)
+                .toString();
+    }
+}
@@ -0,0 +1,31 @@
+package homey.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on {@code Person} whose matches can be looked up from the indexes kept by a
+ * {@link UniquePersonList}, instead of testing every person in the list.
+ * {@link #test(Person)} must agree with {@link #resolve(UniquePersonList)} for every person in the list.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the positions in {@code persons} of every person that satisfies this predicate.
+     * The returned {@code BitSet} is owned by the caller and may be modified.
+     */
+    BitSet resolve(UniquePersonList persons);
+
+    /**
+     * Returns a predicate that is satisfied when both this predicate and {@code other} are.
+     * The result is itself an {@code IndexedPredicate}: its matches are looked up from the index of this predicate,
+     * and only those candidates are tested against {@code other}.
+     */
+    @Override
+    default IndexedPredicate and(Predicate<? super Person> other) {
+        requireNonNull(other);
+        return new IndexedConjunction(this, other);
+    }
+}
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Represents an optional meeting date-time for a person.
@@ -37,6 +38,15 @@ public class Meeting {
         this.updateOverdueStatus();
     }
 
+    /**
+     * Creates a Meeting at the given date-time, dropping any seconds.
+     */
+    public Meeting(LocalDateTime value) {
+        requireNonNull(value);
+        this.value = value.truncatedTo(ChronoUnit.MINUTES);
+        this.updateOverdueStatus();
+    }
+
     /** Returns true if {@code test} is a valid meeting string. */
     public static boolean isValidMeeting(String test) {
         if (test == null) {
@@ -56,7 +66,12 @@ public class Meeting {
 
     /** Updates the overdue status of the meeting based on current time */
     public void updateOverdueStatus() {
-        if (LocalDateTime.now().isAfter(this.value)) {
+        updateOverdueStatus(LocalDateTime.now());
+    }
+
+    /** Updates the overdue status of the meeting based on the given current time */
+    public void updateOverdueStatus(LocalDateTime now) {
+        if (now.isAfter(this.value)) {
             this.isOverdue = true;
         }
     }
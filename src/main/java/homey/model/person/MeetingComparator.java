@@ -0,0 +1,27 @@
+package homey.model.person;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Orders persons by meeting time, earliest first, with persons without a meeting at the end.
+ * Persons with the same meeting time are ordered by name, case-insensitively.
+ */
+public class MeetingComparator implements Comparator<Person> {
+
+    @Override
+    public int compare(Person first, Person second) {
+        int byTime = dateTimeOf(first).compareTo(dateTimeOf(second));
+        if (byTime != 0) {
+            return byTime;
+        }
+        String firstName = first.getName().fullName;
+        String secondName = second.getName().fullName;
+        int byName = String.CASE_INSENSITIVE_ORDER.compare(firstName, secondName);
+        return byName != 0 ? byName : firstName.compareTo(secondName);
+    }
+
+    private static LocalDateTime dateTimeOf(Person person) {
+        return person.getMeeting().isPresent() ? person.getMeeting().get().getDateTime() : LocalDateTime.MAX;
+    }
+}
@@ -0,0 +1,61 @@
+package homey.model.person;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * A queue of the persons whose meeting is not overdue yet, ordered by meeting time, so that the meetings that have
+ * passed can be found without visiting every person.
+ */
+class MeetingDeadlineQueue {
+
+    private final NavigableSet<Person> pending = new TreeSet<>(new MeetingComparator());
+
+    /**
+     * Queues {@code person} if its meeting is not overdue yet.
+     */
+    void add(Person person) {
+        if (person.getMeeting().isPresent() && !Meeting.isOverdueMeeting(person.getMeeting().get())) {
+            pending.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the queue.
+     */
+    void remove(Person person) {
+        if (person.getMeeting().isPresent()) {
+            pending.remove(person);
+        }
+    }
+
+    void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Returns the time of the earliest meeting that is not overdue yet, if any.
+     */
+    Optional<LocalDateTime> peekDeadline() {
+        return pending.isEmpty() ? Optional.empty() : Optional.of(pending.first().getMeeting().get().getDateTime());
+    }
+
+    /**
+     * Marks the meetings that have passed at {@code now} as overdue and removes their persons from the queue.
+     *
+     * @return the persons whose meeting became overdue.
+     */
+    List<Person> pollPassed(LocalDateTime now) {
+        List<Person> passed = new ArrayList<>();
+        while (!pending.isEmpty() && now.isAfter(pending.first().getMeeting().get().getDateTime())) {
+            Person person = pending.pollFirst();
+            person.getMeeting().get().updateOverdueStatus(now);
+            passed.add(person);
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,90 @@
+package homey.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A time-ordered index of the active (non-archived) persons that have a meeting, ordered by
+ * {@link MeetingComparator}.
+ * The index is kept as a sorted {@code ObservableList}, so that a view of the persons with meetings can show it
+ * directly, earliest meeting first, instead of filtering and sorting the whole list. Each person is found within it
+ * by binary search.
+ */
+class MeetingIndex {
+
+    private static final MeetingComparator ORDER = new MeetingComparator();
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final ObservableList<Person> personsUnmodifiable = FXCollections.unmodifiableObservableList(persons);
+
+    /**
+     * Indexes {@code person} if it is active and has a meeting.
+     */
+    void add(Person person) {
+        if (isIndexed(person)) {
+            int position = Collections.binarySearch(persons, person, ORDER);
+            persons.add(position < 0 ? -position - 1 : position, person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        if (isIndexed(person)) {
+            int position = Collections.binarySearch(persons, person, ORDER);
+            if (position >= 0) {
+                persons.remove(position);
+            }
+        }
+    }
+
+    /**
+     * Notifies views of the index that {@code person}, which is indexed, has changed without moving, such as when its
+     * meeting became overdue.
+     */
+    void refresh(Person person) {
+        if (isIndexed(person)) {
+            int position = Collections.binarySearch(persons, person, ORDER);
+            if (position >= 0) {
+                persons.set(position, person);
+            }
+        }
+    }
+
+    void clear() {
+        persons.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with those of {@code allPersons} that belong in it, in a single change.
+     */
+    void setAll(List<Person> allPersons) {
+        List<Person> indexed = new ArrayList<>();
+        for (Person person : allPersons) {
+            if (isIndexed(person)) {
+                indexed.add(person);
+            }
+        }
+        indexed.sort(ORDER);
+        persons.setAll(indexed);
+    }
+
+    /**
+     * Returns the indexed persons, earliest meeting first, as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Person> inOrder() {
+        return personsUnmodifiable;
+    }
+
+    /**
+     * Returns true if {@code person} belongs in this index.
+     */
+    static boolean isIndexed(Person person) {
+        return person.getMeeting().isPresent() && !person.isArchived();
+    }
+}
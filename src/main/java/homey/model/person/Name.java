@@ -3,6 +3,8 @@ package homey.model.person;
 import static homey.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import homey.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,9 @@ public class Name {
 
     public final String fullName;
 
+    /** {@code fullName} as matched by searches, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +34,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchKey = StringUtil.toSearchKey(name);
     }
 
     /**
@@ -38,6 +44,10 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    public String getSearchKey() {
+        return searchKey;
+    }
+
 
     @Override
     public String toString() {
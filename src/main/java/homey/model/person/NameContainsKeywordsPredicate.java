@@ -2,36 +2,37 @@ package homey.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.function.Predicate;
 
+import homey.commons.util.StringUtil;
 import homey.commons.util.ToStringBuilder;
 
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
- * Matching is case-insensitive and allows partial keyword matches
+ * Matching is case-insensitive, accent-insensitive and allows partial keyword matches
+ * Matches can be looked up from the name trigram index of a {@link UniquePersonList}.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywordsLowerCased;
 
     /**
      * Constructs a NameContainsKeywordsPredicate with the given list of keywords.
-     * All keywords are converted to lowercase for case-insensitive matching.
+     * All keywords are converted to search keys (see {@link StringUtil#toSearchKey(String)}) to match those of names.
      * @param keywords the list of keywords to match against; must not be null
      * @throws NullPointerException if keywords is null
      */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywordsLowerCased = keywords.stream()
-                .map(k -> k == null ? "" : k.toLowerCase(Locale.ROOT))
+                .map(k -> k == null ? "" : StringUtil.toSearchKey(k))
                 .toList();
     }
 
     @Override
     public boolean test(Person person) {
-        String name = person.getName().fullName.toLowerCase(Locale.ROOT);
+        String name = person.getName().getSearchKey();
         for (String k : keywordsLowerCased) {
             if (!k.isEmpty() && name.contains(k)) {
                 return true; // match partial keywords
@@ -40,6 +41,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return false;
     }
 
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        return persons.findByNameKeywords(keywordsLowerCased);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -0,0 +1,121 @@
+package homey.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An n-gram index from the substrings of up to three characters of each name's search key to the names containing them.
+ * A keyword of at most three characters is looked up directly. A longer keyword is looked up by intersecting the
+ * names containing each of its trigrams, and only those candidates are checked for the whole keyword, preserving the
+ * partial, case-insensitive matching of {@link NameContainsKeywordsPredicate}.
+ */
+class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Name>> namesByGram = new HashMap<>();
+
+    /**
+     * Indexes the name of {@code person}.
+     */
+    void add(Person person) {
+        Name name = person.getName();
+        for (String gram : gramsOf(toKey(name))) {
+            namesByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes the name of {@code person} from the index.
+     */
+    void remove(Person person) {
+        Name name = person.getName();
+        for (String gram : gramsOf(toKey(name))) {
+            Set<Name> names = namesByGram.get(gram);
+            if (names == null) {
+                continue;
+            }
+            names.remove(name);
+            if (names.isEmpty()) {
+                namesByGram.remove(gram);
+            }
+        }
+    }
+
+    void clear() {
+        namesByGram.clear();
+    }
+
+    /**
+     * Returns the names that contain any of the non-empty {@code keywordsLowerCased}.
+     */
+    Set<Name> find(List<String> keywordsLowerCased) {
+        Set<Name> matches = new HashSet<>();
+        for (String keyword : keywordsLowerCased) {
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            if (keyword.length() <= GRAM_LENGTH) {
+                matches.addAll(namesByGram.getOrDefault(keyword, Set.of()));
+            } else {
+                matches.addAll(findLongKeyword(keyword));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the names containing {@code keyword}, which is longer than a trigram.
+     */
+    private List<Name> findLongKeyword(String keyword) {
+        List<Set<Name>> postings = new ArrayList<>();
+        for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+            Set<Name> names = namesByGram.get(keyword.substring(start, start + GRAM_LENGTH));
+            if (names == null) {
+                return List.of();
+            }
+            postings.add(names);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        List<Name> matches = new ArrayList<>();
+        Set<Name> rarest = postings.get(0);
+        for (Name candidate : rarest) {
+            if (isInAll(candidate, postings) && toKey(candidate).contains(keyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean isInAll(Name name, List<Set<Name>> postings) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns every substring of {@code key} of one to three characters.
+     */
+    private static Set<String> gramsOf(String key) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < key.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, key.length()); end++) {
+                grams.add(key.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private static String toKey(Name name) {
+        return name.getSearchKey();
+    }
+}
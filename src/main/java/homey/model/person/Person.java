@@ -7,6 +7,8 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import homey.commons.util.ToStringBuilder;
 import homey.model.tag.Relation;
@@ -16,9 +18,17 @@ import homey.model.tag.TransactionStage;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Each person also has a numeric id that stays the same when the person is edited, archived or saved, so the
+ * address book can find a person without comparing its fields. The id is not part of equality.
+ * A person loaded lazily does not keep its phone, email, address and remark, and reads them again when they are needed.
  */
 public class Person {
 
+    /** The largest id given out so far. */
+    private static final AtomicLong LAST_ID = new AtomicLong();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -33,12 +43,16 @@ public class Person {
     private final boolean isArchived;
     private final Remark remark;
 
+    /** Reads the phone, email, address and remark when they are needed, or null if the fields above hold them. */
+    private final Supplier<ContactDetails> detailsLoader;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Relation relation,
                   TransactionStage stage, Remark remark, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, stage, tags);
+        this.id = LAST_ID.incrementAndGet();
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -48,7 +62,8 @@ public class Person {
         this.tags.addAll(tags);
         this.meeting = Optional.empty();
         this.isArchived = false;
-        this.remark = remark == null ? new Remark("") : remark;
+        this.remark = remark == null ? Remark.EMPTY : remark;
+        this.detailsLoader = null;
     }
 
     /**
@@ -57,6 +72,7 @@ public class Person {
     public Person(Name name, Phone phone, Email email, Address address, Relation relation,
                   TransactionStage stage, Remark remark, Set<Tag> tags, Optional<Meeting> meeting) {
         requireAllNonNull(name, phone, email, address, stage, tags);
+        this.id = LAST_ID.incrementAndGet();
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -65,17 +81,32 @@ public class Person {
         this.relation = relation;
         this.tags.addAll(tags);
         this.meeting = meeting == null ? Optional.empty() : meeting;
-        this.remark = remark == null ? new Remark("") : remark;
+        this.remark = remark == null ? Remark.EMPTY : remark;
         this.isArchived = false;
+        this.detailsLoader = null;
+    }
+
+    /**
+     * Constructs a person that does not keep its phone, email, address and remark, but reads them from
+     * {@code detailsLoader} each time they are needed, such as from a memory-mapped data file through a bounded cache.
+     * {@code detailsLoader} must always return the same details, and may be called from any thread.
+     */
+    public Person(Name name, Relation relation, TransactionStage stage, Set<Tag> tags, Optional<Meeting> meeting,
+                  Supplier<ContactDetails> detailsLoader) {
+        this(LAST_ID.incrementAndGet(), name, null, null, null, relation, stage, null, detailsLoader, tags, meeting,
+                false);
+        requireAllNonNull(stage, detailsLoader);
     }
 
     /**
-     * Overloaded constructor used by archived()/unarchived().
+     * Overloaded constructor used by archived()/unarchived() and withId().
+     * The phone, email, address and remark are null if they are read from {@code detailsLoader}.
      */
-    private Person(Name name, Phone phone, Email email, Address address, Relation relation,
-                   TransactionStage stage, Remark remark, Set<Tag> tags, Optional<Meeting> meeting,
-                   boolean isArchived) {
-        requireAllNonNull(name, phone, email, address, tags);
+    private Person(long id, Name name, Phone phone, Email email, Address address, Relation relation,
+                   TransactionStage stage, Remark remark, Supplier<ContactDetails> detailsLoader, Set<Tag> tags,
+                   Optional<Meeting> meeting, boolean isArchived) {
+        requireAllNonNull(name, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -85,7 +116,12 @@ public class Person {
         this.tags.addAll(tags);
         this.meeting = meeting == null ? Optional.empty() : meeting;
         this.isArchived = isArchived;
-        this.remark = remark == null ? new Remark("") : remark;
+        this.remark = remark == null && detailsLoader == null ? Remark.EMPTY : remark;
+        this.detailsLoader = detailsLoader;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -93,15 +129,15 @@ public class Person {
     }
 
     public Phone getPhone() {
-        return phone;
+        return detailsLoader == null ? phone : detailsLoader.get().getPhone();
     }
 
     public Email getEmail() {
-        return email;
+        return detailsLoader == null ? email : detailsLoader.get().getEmail();
     }
 
     public Address getAddress() {
-        return address;
+        return detailsLoader == null ? address : detailsLoader.get().getAddress();
     }
 
     public TransactionStage getStage() {
@@ -117,7 +153,14 @@ public class Person {
     }
 
     public Remark getRemark() {
-        return remark;
+        return detailsLoader == null ? remark : detailsLoader.get().getRemark();
+    }
+
+    /**
+     * Returns the phone, email, address and remark of this person, with a single read if it does not keep them.
+     */
+    public ContactDetails getDetails() {
+        return detailsLoader == null ? new ContactDetails(phone, email, address, remark) : detailsLoader.get();
     }
 
     /**
@@ -138,7 +181,7 @@ public class Person {
      * @return a copy of this person with archived status set to true
      */
     public Person archived() {
-        return new Person(name, phone, email, address, relation, stage, remark, tags, meeting, true);
+        return copy(id, true);
     }
 
     /**
@@ -149,7 +192,33 @@ public class Person {
      * @return a copy of this person with archived status set to false
      */
     public Person unarchived() {
-        return new Person(name, phone, email, address, relation, stage, remark, tags, meeting, false);
+        return copy(id, false);
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id}, such as the id it was saved with.
+     * Ids given to new persons afterwards are larger than {@code id}.
+     */
+    public Person withId(long id) {
+        LAST_ID.accumulateAndGet(id, Math::max);
+        return copy(id, isArchived);
+    }
+
+    /**
+     * Returns a copy of this person with an id larger than any given out so far, such as for a person saved without
+     * an id once every saved id has been read.
+     */
+    public Person withNewId() {
+        return copy(LAST_ID.incrementAndGet(), isArchived);
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id} and archive status, which reads its details from the
+     * same loader as this person if this person does not keep them.
+     */
+    private Person copy(long id, boolean isArchived) {
+        return new Person(id, name, phone, email, address, relation, stage, remark, detailsLoader, tags, meeting,
+                isArchived);
     }
 
     /**
@@ -190,28 +259,28 @@ public class Person {
 
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
                 && stage.equals(otherPerson.stage)
-                && remark.equals(otherPerson.remark)
                 && tags.equals(otherPerson.tags)
-                && meeting.equals(otherPerson.meeting);
+                && meeting.equals(otherPerson.meeting)
+                && getDetails().equals(otherPerson.getDetails());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, stage, remark, tags, meeting);
+        ContactDetails details = getDetails();
+        return Objects.hash(name, details.getPhone(), details.getEmail(), details.getAddress(), stage,
+                details.getRemark(), tags, meeting);
     }
 
     @Override
     public String toString() {
+        ContactDetails details = getDetails();
         return new ToStringBuilder(this)
                 .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
+                .add("phone", details.getPhone())
+                .add("email", details.getEmail())
+                .add("address", details.getAddress())
                 .add("transaction stage", stage)
                 .add("tags", tags)
                 .add("meeting", meeting.map(Meeting::toDisplayString).orElse("<none>"))
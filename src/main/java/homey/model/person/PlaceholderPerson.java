@@ -10,6 +10,6 @@ public class PlaceholderPerson {
     public static final Phone PLACEHOLDER_PHONE = new Phone("00000000");
     public static final Email PLACEHOLDER_EMAIL = new Email("placeholder@xx.xx");
     public static final Address PLACEHOLDER_ADDRESS = new Address("placeholder");
-    public static final TransactionStage PLACEHOLDER_TRANSACTION = new TransactionStage("prospect");
+    public static final TransactionStage PLACEHOLDER_TRANSACTION = TransactionStage.of("prospect");
 
 }
@@ -2,16 +2,17 @@ package homey.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.Locale;
-import java.util.function.Predicate;
 
 import homey.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Relation} matches the keyword given.
  * Matching is case-insensitive and does not allow partial keyword matches.
+ * Matches can be looked up from the relation bitmap of a {@link UniquePersonList}.
  */
-public class RelationContainsKeywordPredicate implements Predicate<Person> {
+public class RelationContainsKeywordPredicate implements IndexedPredicate {
     private final String keywordLowerCased;
 
     /**
@@ -30,6 +31,11 @@ public class RelationContainsKeywordPredicate implements Predicate<Person> {
         return !relation.isEmpty() && relation.equals(keywordLowerCased);
     }
 
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        return persons.findByRelation(keywordLowerCased);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
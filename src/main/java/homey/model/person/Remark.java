@@ -8,6 +8,12 @@ import static java.util.Objects.requireNonNull;
  */
 public class Remark {
 
+    /** The largest number of characters in a remark. */
+    public static final int MAX_LENGTH = 100;
+
+    /** The remark of a person without one. */
+    public static final Remark EMPTY = new Remark("");
+
     public final String value;
 
     /**
@@ -17,12 +23,21 @@ public class Remark {
     public Remark(String remark) {
         requireNonNull(remark);
         String trimmed = remark.trim();
-        if (trimmed.length() > 100) {
+        if (trimmed.length() > MAX_LENGTH) {
             throw new IllegalArgumentException("Remark cannot exceed 100 characters.");
         }
         value = trimmed;
     }
 
+    /**
+     * Returns a {@code Remark} with the given text, sharing {@link #EMPTY} when the text is blank.
+     * @param remark the given remark.
+     */
+    public static Remark of(String remark) {
+        requireNonNull(remark);
+        return remark.trim().isEmpty() ? EMPTY : new Remark(remark);
+    }
+
     @Override
     public String toString() {
         return value;
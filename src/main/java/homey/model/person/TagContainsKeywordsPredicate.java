@@ -2,22 +2,24 @@ package homey.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.function.Predicate;
 
+import homey.commons.util.StringUtil;
 import homey.commons.util.ToStringBuilder;
+import homey.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s tags contain any of the specified keywords.
- * Keywords are matched case-insensitively and as substrings within tag names.
+ * Keywords are matched case-insensitively, accent-insensitively and as substrings within tag names.
+ * Matches can be looked up from the tag index of a {@link UniquePersonList}.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywordsLowerCased;
 
     /**
      * Constructs a {@code TagContainsKeywordsPredicate} with the given keywords.
-     * Keywords are converted to lowercase for case-insensitive matching.
+     * Keywords are converted to search keys (see {@link StringUtil#toSearchKey(String)}) to match those of tags.
      *
      * @param keywords The list of keywords to search for in tags. Must not be null.
      * @throws NullPointerException if {@code keywords} is null.
@@ -25,18 +27,27 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
     public TagContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywordsLowerCased = keywords.stream()
-                .map(k -> k == null ? "" : k.toLowerCase(Locale.ROOT))
+                .map(k -> k == null ? "" : StringUtil.toSearchKey(k))
                 .toList();
     }
 
 
     @Override
     public boolean test(Person person) {
-        boolean anyMatch = person.getTags().stream()
-                .map(t -> t.tagName.toLowerCase(Locale.ROOT))
-                .anyMatch(tagName -> keywordsLowerCased.stream()
-                        .anyMatch(k -> !k.isEmpty() && tagName.contains(k)));
-        return anyMatch;
+        for (Tag tag : person.getTags()) {
+            String tagName = tag.getSearchKey();
+            for (String k : keywordsLowerCased) {
+                if (!k.isEmpty() && tagName.contains(k)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        return persons.findByTagKeywords(keywordsLowerCased);
     }
 
     @Override
@@ -0,0 +1,77 @@
+package homey.model.person;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import homey.model.tag.Tag;
+
+/**
+ * An inverted index from the substrings of tag search keys to the names of the persons having such a tag.
+ * Indexing every substring preserves the partial, case-insensitive matching of {@link TagContainsKeywordsPredicate}
+ * while letting each keyword be looked up directly.
+ */
+class TagIndex {
+
+    private final Map<String, Set<Name>> namesBySubstring = new HashMap<>();
+
+    /**
+     * Indexes the tags of {@code person}.
+     */
+    void add(Person person) {
+        for (String key : keysOf(person)) {
+            namesBySubstring.computeIfAbsent(key, unused -> new HashSet<>()).add(person.getName());
+        }
+    }
+
+    /**
+     * Removes the tags of {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (String key : keysOf(person)) {
+            Set<Name> names = namesBySubstring.get(key);
+            if (names == null) {
+                continue;
+            }
+            names.remove(person.getName());
+            if (names.isEmpty()) {
+                namesBySubstring.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        namesBySubstring.clear();
+    }
+
+    /**
+     * Returns the names of persons having a tag that contains any of the non-empty {@code keywordsLowerCased}.
+     */
+    Set<Name> find(List<String> keywordsLowerCased) {
+        Set<Name> matches = new HashSet<>();
+        for (String keyword : keywordsLowerCased) {
+            if (!keyword.isEmpty()) {
+                matches.addAll(namesBySubstring.getOrDefault(keyword, Set.of()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns every non-empty substring of the tag search keys of {@code person}.
+     */
+    private static Set<String> keysOf(Person person) {
+        Set<String> keys = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            String tagName = tag.getSearchKey();
+            for (int start = 0; start < tagName.length(); start++) {
+                for (int end = start + 1; end <= tagName.length(); end++) {
+                    keys.add(tagName.substring(start, end));
+                }
+            }
+        }
+        return keys;
+    }
+}
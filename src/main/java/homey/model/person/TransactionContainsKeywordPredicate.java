@@ -2,16 +2,17 @@ package homey.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.Locale;
-import java.util.function.Predicate;
 
 import homey.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Stage} matches the given keyword.
  * The keyword must match exactly (case-insensitive) with the person's transaction stage
+ * Matches can be looked up from the transaction stage bitmap of a {@link UniquePersonList}.
  */
-public class TransactionContainsKeywordPredicate implements Predicate<Person> {
+public class TransactionContainsKeywordPredicate implements IndexedPredicate {
     private final String keywordLowerCased;
 
     /**
@@ -30,6 +31,11 @@ public class TransactionContainsKeywordPredicate implements Predicate<Person> {
         return !transaction.isEmpty() && transaction.equals(keywordLowerCased);
     }
 
+    @Override
+    public BitSet resolve(UniquePersonList persons) {
+        return persons.findByStage(keywordLowerCased);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -3,8 +3,15 @@ package homey.model.person;
 import static homey.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 import homey.model.person.exceptions.DuplicatePersonException;
 import homey.model.person.exceptions.PersonNotFoundException;
@@ -19,6 +26,17 @@ import javafx.collections.ObservableList;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The active and the archived persons are also kept in two partitions, each an {@code ObservableList} in list order,
+ * so that views of either kind of person can use a partition directly instead of filtering the whole list.
+ * An identity index from each person's {@code Name} to its position in the list is kept in sync with the list,
+ * so that duplicate checks and target lookups do not need to scan the whole list. Removing or inserting a person
+ * still takes time linear in the number of persons after it: the backing list shifts them, and their positions are
+ * recorded again in the identity index. Leaving removed positions empty to avoid this would expose the gaps to every
+ * view bound to the list, which expects it to hold exactly the persons in the address book.
+ * Secondary indexes over the fields that persons are searched and listed by, such as the {@link TagIndex} and the
+ * {@link BitmapIndex} of each low-cardinality field, are updated on every change so that an {@link IndexedPredicate}
+ * can look up its matches instead of testing every person. The {@link AddressIndex} is only built on the first
+ * search by address, so that loading the list does not read the address of every person.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,12 +46,62 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final ObservableList<Person> activePartition = FXCollections.observableArrayList();
+    private final ObservableList<Person> activePartitionUnmodifiable =
+            FXCollections.unmodifiableObservableList(activePartition);
+    private final ObservableList<Person> archivedPartition = FXCollections.observableArrayList();
+    private final ObservableList<Person> archivedPartitionUnmodifiable =
+            FXCollections.unmodifiableObservableList(archivedPartition);
+
+    /** Position of each person in {@code internalList}, keyed by the name used by {@code Person#isSamePerson}. */
+    private final Map<Name, Integer> slotsByName = new HashMap<>();
+
+    /** Position of each person in {@code internalList}, keyed by {@code Person#getId}. */
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final AddressIndex addressIndex = new AddressIndex();
+    /** Whether {@code addressIndex} holds every person, which it only does from the first search by address. */
+    private boolean isAddressIndexBuilt;
+    private final TagIndex tagIndex = new TagIndex();
+    private final MeetingIndex meetingIndex = new MeetingIndex();
+    private final MeetingDeadlineQueue meetingDeadlines = new MeetingDeadlineQueue();
+    private final BitmapIndex<String> relationIndex =
+            new BitmapIndex<>(person -> toKey(person.getRelation() == null ? "" : person.getRelation().value));
+    private final BitmapIndex<String> stageIndex = new BitmapIndex<>(person -> toKey(person.getStage().value));
+    private final BitmapIndex<Boolean> archiveIndex = new BitmapIndex<>(Person::isArchived);
+
+    /**
+     * Incremented on every change to the list, before the change is made, so that listeners notified of the change
+     * already see the new version.
+     */
+    private long version;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slotsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if no person equal to it is in the list.
+     * A person taken from this list is found by its id without comparing any fields. Otherwise, as names are unique
+     * within the list, only the person with the same name needs to be compared.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsById.get(person.getId());
+        if (slot != null && internalList.get(slot) == person) {
+            return slot;
+        }
+
+        Integer index = slotsByName.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -45,7 +113,34 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        version++;
+        slotsByName.put(toAdd.getName(), internalList.size());
+        slotsById.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
+        addToIndexes(internalList.size() - 1, toAdd);
+        partitionOf(toAdd).add(toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at position {@code index}, moving the persons from {@code index} onwards up.
+     * The person must not already exist in the list.
+     * Takes time linear in the number of persons moved.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (index < 0 || index > internalList.size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+
+        version++;
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+        shiftIndexesUp(index);
+        addToIndexes(index, toAdd);
+        partitionOf(toAdd).add(rankInPartition(index, toAdd), toAdd);
     }
 
     /**
@@ -56,7 +151,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,36 +160,185 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        version++;
         internalList.set(index, editedPerson);
+        slotsByName.remove(target.getName());
+        slotsByName.put(editedPerson.getName(), index);
+        slotsById.remove(target.getId(), index);
+        slotsById.put(editedPerson.getId(), index);
+        removeFromIndexes(index, target);
+        addToIndexes(index, editedPerson);
+        if (target.isArchived() == editedPerson.isArchived()) {
+            partitionOf(editedPerson).set(rankInPartition(index, editedPerson), editedPerson);
+        } else {
+            // moves the person between partitions, keeping both in list order
+            partitionOf(target).remove(rankInPartition(index, target));
+            partitionOf(editedPerson).add(rankInPartition(index, editedPerson), editedPerson);
+        }
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * Takes time linear in the number of persons after it, which move down by one.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        version++;
+        internalList.remove(index);
+        slotsByName.remove(toRemove.getName());
+        slotsById.remove(toRemove.getId(), index);
+        reindexFrom(index);
+        partitionOf(toRemove).remove(rankInPartition(index, toRemove));
+        removeFromIndexes(index, toRemove);
+        shiftIndexesDown(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        version++;
         internalList.setAll(replacement.internalList);
+        slotsByName.clear();
+        slotsByName.putAll(replacement.slotsByName);
+        slotsById.clear();
+        slotsById.putAll(replacement.slotsById);
+        rebuildIndexes();
+        activePartition.setAll(replacement.activePartition);
+        archivedPartition.setAll(replacement.archivedPartition);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked in a single hashed pass and the list is replaced in one {@code setAll},
+     * so this is the preferred way to load many persons at once.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> slots = indexByName(persons);
 
+        version++;
         internalList.setAll(persons);
+        slotsByName.clear();
+        slotsByName.putAll(slots);
+        slotsById.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            slotsById.put(persons.get(i).getId(), i);
+        }
+        rebuildIndexes();
+        rebuildPartitions();
+    }
+
+    /**
+     * Returns the persons satisfying {@code predicate}, in list order.
+     * The matches are looked up from the indexes of this list.
+     */
+    public List<Person> find(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        BitSet slots = predicate.resolve(this);
+        List<Person> matches = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            matches.add(internalList.get(slot));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the positions of persons whose name contains any of the non-empty {@code keywordsLowerCased}.
+     */
+    public BitSet findByNameKeywords(List<String> keywordsLowerCased) {
+        requireNonNull(keywordsLowerCased);
+        return toSlots(nameIndex.find(keywordsLowerCased));
+    }
+
+    /**
+     * Returns the positions of persons whose address contains any of the non-empty {@code keywordsLowerCased}.
+     * A keyword may be a phrase spanning several words of the address.
+     */
+    public BitSet findByAddressKeywords(List<String> keywordsLowerCased) {
+        requireNonNull(keywordsLowerCased);
+        if (!isAddressIndexBuilt) {
+            internalList.forEach(addressIndex::add);
+            isAddressIndexBuilt = true;
+        }
+        return toSlots(addressIndex.find(keywordsLowerCased));
+    }
+
+    /**
+     * Returns the positions of persons having a tag that contains any of the non-empty {@code keywordsLowerCased}.
+     */
+    public BitSet findByTagKeywords(List<String> keywordsLowerCased) {
+        requireNonNull(keywordsLowerCased);
+        return toSlots(tagIndex.find(keywordsLowerCased));
+    }
+
+    /**
+     * Returns the positions of persons whose relation is {@code keywordLowerCased}.
+     */
+    public BitSet findByRelation(String keywordLowerCased) {
+        requireNonNull(keywordLowerCased);
+        return keywordLowerCased.isEmpty() ? new BitSet() : relationIndex.get(keywordLowerCased);
+    }
+
+    /**
+     * Returns the positions of persons whose transaction stage is {@code keywordLowerCased}.
+     */
+    public BitSet findByStage(String keywordLowerCased) {
+        requireNonNull(keywordLowerCased);
+        return keywordLowerCased.isEmpty() ? new BitSet() : stageIndex.get(keywordLowerCased);
+    }
+
+    /**
+     * Returns the positions of persons that are archived if {@code isArchived} is true, or active otherwise.
+     */
+    public BitSet findByArchiveStatus(boolean isArchived) {
+        return archiveIndex.get(isArchived);
+    }
+
+    /**
+     * Returns the positions of active persons that have a meeting.
+     */
+    public BitSet findByActiveMeeting() {
+        BitSet slots = new BitSet(internalList.size());
+        for (Person person : meetingIndex.inOrder()) {
+            slots.set(slotsByName.get(person.getName()));
+        }
+        return slots;
+    }
+
+    /**
+     * Marks the meetings that have passed at {@code now} as overdue.
+     * Only the persons whose meeting became overdue are visited, and each of them is set again in the list so that
+     * views of the list are notified of the change.
+     */
+    public void updateOverdueMeetings(LocalDateTime now) {
+        requireNonNull(now);
+        for (Person person : meetingDeadlines.pollPassed(now)) {
+            int slot = slotsByName.get(person.getName());
+            version++;
+            internalList.set(slot, person);
+            partitionOf(person).set(rankInPartition(slot, person), person);
+            meetingIndex.refresh(person);
+        }
+    }
+
+    /**
+     * Returns the time of the earliest meeting that is not overdue yet, if any.
+     */
+    public Optional<LocalDateTime> getNextMeetingDeadline() {
+        return meetingDeadlines.peekDeadline();
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of this list change.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -104,6 +348,28 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the active (non-archived) persons, in list order, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableActiveObservableList() {
+        return activePartitionUnmodifiable;
+    }
+
+    /**
+     * Returns the archived persons, in list order, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableArchivedObservableList() {
+        return archivedPartitionUnmodifiable;
+    }
+
+    /**
+     * Returns the active persons that have a meeting, earliest meeting first, as an unmodifiable
+     * {@code ObservableList} backed by the meeting index.
+     */
+    public ObservableList<Person> asUnmodifiableActiveMeetingObservableList() {
+        return meetingIndex.inOrder();
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -135,16 +401,134 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the positions of the persons with the given {@code names}.
+     */
+    private BitSet toSlots(Iterable<Name> names) {
+        BitSet slots = new BitSet(internalList.size());
+        for (Name name : names) {
+            slots.set(slotsByName.get(name));
+        }
+        return slots;
+    }
+
+    private void addToIndexes(int slot, Person person) {
+        addToFieldIndexes(slot, person);
+        meetingIndex.add(person);
+    }
+
+    /**
+     * Adds {@code person} to every index except the meeting index, which views may be showing and so is rebuilt in a
+     * single change by {@link #rebuildIndexes()}.
+     */
+    private void addToFieldIndexes(int slot, Person person) {
+        nameIndex.add(person);
+        if (isAddressIndexBuilt) {
+            addressIndex.add(person);
+        }
+        tagIndex.add(person);
+        meetingDeadlines.add(person);
+        relationIndex.add(slot, person);
+        stageIndex.add(slot, person);
+        archiveIndex.add(slot, person);
+    }
+
+    private void removeFromIndexes(int slot, Person person) {
+        nameIndex.remove(person);
+        if (isAddressIndexBuilt) {
+            addressIndex.remove(person);
+        }
+        tagIndex.remove(person);
+        meetingIndex.remove(person);
+        meetingDeadlines.remove(person);
+        relationIndex.remove(slot, person);
+        stageIndex.remove(slot, person);
+        archiveIndex.remove(slot, person);
+    }
+
+    /**
+     * Moves the positions recorded in the bitmap indexes down by one, after the person at {@code removedSlot} has
+     * been removed.
+     */
+    private void shiftIndexesDown(int removedSlot) {
+        relationIndex.shiftDown(removedSlot);
+        stageIndex.shiftDown(removedSlot);
+        archiveIndex.shiftDown(removedSlot);
+    }
+
+    /**
+     * Moves the positions recorded in the bitmap indexes from {@code insertedSlot} onwards up by one, before a
+     * person is inserted at {@code insertedSlot}.
+     */
+    private void shiftIndexesUp(int insertedSlot) {
+        relationIndex.shiftUp(insertedSlot);
+        stageIndex.shiftUp(insertedSlot);
+        archiveIndex.shiftUp(insertedSlot);
+    }
+
+    private void rebuildIndexes() {
+        nameIndex.clear();
+        addressIndex.clear();
+        isAddressIndexBuilt = false;
+        tagIndex.clear();
+        meetingDeadlines.clear();
+        relationIndex.clear();
+        stageIndex.clear();
+        archiveIndex.clear();
+        for (int slot = 0; slot < internalList.size(); slot++) {
+            addToFieldIndexes(slot, internalList.get(slot));
+        }
+        meetingIndex.setAll(internalList);
+    }
+
+    private ObservableList<Person> partitionOf(Person person) {
+        return person.isArchived() ? archivedPartition : activePartition;
+    }
+
+    /**
+     * Returns the position within its partition of {@code person}, which is at {@code slot} in the list.
+     */
+    private int rankInPartition(int slot, Person person) {
+        return archiveIndex.countBefore(person.isArchived(), slot);
+    }
+
+    private void rebuildPartitions() {
+        List<Person> active = new ArrayList<>();
+        List<Person> archived = new ArrayList<>();
+        for (Person person : internalList) {
+            (person.isArchived() ? archived : active).add(person);
+        }
+        activePartition.setAll(active);
+        archivedPartition.setAll(archived);
+    }
+
+    /**
+     * Records the current position of every person from {@code from} to the end of the list.
+     */
+    private void reindexFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            slotsByName.put(person.getName(), i);
+            slotsById.put(person.getId(), i);
+        }
+    }
+
+    private static String toKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the position of each person in {@code persons}, keyed by name.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> slots = new HashMap<>();
+        int index = 0;
+        for (Person person : persons) {
+            if (slots.putIfAbsent(person.getName(), index++) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return slots;
     }
 }
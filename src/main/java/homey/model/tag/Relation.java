@@ -3,12 +3,18 @@ package homey.model.tag;
 import static homey.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Person's relation in the address book.
  */
 public class Relation {
     public static final String MESSAGE_CONSTRAINTS = "Relation should be 'client' or 'vendor'.";
 
+    /** Canonical instance of each relation returned by {@link #of(String)}. */
+    private static final Map<String, Relation> INTERNED = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
@@ -22,6 +28,17 @@ public class Relation {
         this.value = value;
     }
 
+    /**
+     * Returns the canonical {@code Relation} with the given value, so that persons with the same relation share one
+     * instance.
+     *
+     * @param value A valid relation.
+     */
+    public static Relation of(String value) {
+        requireNonNull(value);
+        return INTERNED.computeIfAbsent(value, Relation::new);
+    }
+
     /**
      * Returns true if a given string is a valid relation.
      */
@@ -3,6 +3,11 @@ package homey.model.tag;
 import static homey.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import homey.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,8 +17,14 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** Canonical instance of each tag name returned by {@link #of(String)}. */
+    private static final Map<String, Tag> INTERNED = new ConcurrentHashMap<>();
+
     public final String tagName;
 
+    /** {@code tagName} as matched by searches, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -23,6 +34,17 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchKey = StringUtil.toSearchKey(tagName);
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with the given name, so that persons with the same tag share one instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return INTERNED.computeIfAbsent(tagName, Tag::new);
     }
 
     /**
@@ -32,6 +54,10 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,9 @@ package homey.model.tag;
 import static homey.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents the transaction stage between the person and the addressbook owner.
  */
@@ -10,6 +13,9 @@ public class TransactionStage {
     public static final String MESSAGE_CONSTRAINTS = "Transaction stage should be 'prospect', 'negotiating'"
             + " or 'closed'.";
     public static final String[] VALID_STAGES = new String[]{"prospect", "negotiating", "closed"};
+    /** Canonical instance of each stage returned by {@link #of(String)}, keyed by normalised stage name. */
+    private static final Map<String, TransactionStage> INTERNED = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
@@ -23,6 +29,16 @@ public class TransactionStage {
         this.value = normalisedStage;
     }
 
+    /**
+     * Returns the canonical {@code TransactionStage} with the given name, so that persons at the same stage share one
+     * instance.
+     * @param stageName A valid stage name.
+     */
+    public static TransactionStage of(String stageName) {
+        requireNonNull(stageName);
+        return INTERNED.computeIfAbsent(stageName.trim().toLowerCase(), TransactionStage::new);
+    }
+
     /**
      * Returns true if the given string is a valid stage name (case-insensitive).
      * @param test
@@ -21,30 +21,30 @@ import homey.model.tag.TransactionStage;
  */
 public class SampleDataUtil {
 
-    public static final Relation CLIENT_RELATION = new Relation("client");
+    public static final Relation CLIENT_RELATION = Relation.of("client");
     public static final Remark DEFAULT_REMARK = new Remark("Needs at least 4 rooms.");
 
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new Address("Blk 30 Geylang Street 29, #06-40"), CLIENT_RELATION,
-                    new TransactionStage("prospect"), DEFAULT_REMARK, getTagSet("friends")),
+                    TransactionStage.of("prospect"), DEFAULT_REMARK, getTagSet("friends")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), CLIENT_RELATION,
-                    new TransactionStage("prospect"), DEFAULT_REMARK,
+                    TransactionStage.of("prospect"), DEFAULT_REMARK,
                     getTagSet("colleagues", "friends")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), CLIENT_RELATION,
-                    new TransactionStage("negotiating"), DEFAULT_REMARK, getTagSet("neighbours")),
+                    TransactionStage.of("negotiating"), DEFAULT_REMARK, getTagSet("neighbours")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), CLIENT_RELATION,
-                    new TransactionStage("closed"), DEFAULT_REMARK, getTagSet("family")),
+                    TransactionStage.of("closed"), DEFAULT_REMARK, getTagSet("family")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                 new Address("Blk 47 Tampines Street 20, #17-35"), CLIENT_RELATION,
-                    new TransactionStage("prospect"), DEFAULT_REMARK, getTagSet("classmates")),
+                    TransactionStage.of("prospect"), DEFAULT_REMARK, getTagSet("classmates")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"), CLIENT_RELATION,
-                    new TransactionStage("negotiating"), DEFAULT_REMARK, getTagSet("colleagues"))
+                    TransactionStage.of("negotiating"), DEFAULT_REMARK, getTagSet("colleagues"))
         };
     }
 
@@ -61,7 +61,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,103 @@
+package homey.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import homey.commons.core.LogsCenter;
+import homey.commons.exceptions.DataLoadingException;
+import homey.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files from one storage format to another, such as between the json file of
+ * {@link JsonAddressBookStorage} and the binary file of {@link BinaryAddressBookStorage}.
+ */
+public class AddressBookFileConverter {
+
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private AddressBookFileConverter() {}
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}, which is the same
+     * path with its {@code .json} extension, if any, replaced by {@link BinaryAddressBookStorage#FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BinaryAddressBookStorage.FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path that the data file at {@code filePath} is moved to once it has been converted to another
+     * format, which is the same path with {@link #BACKUP_FILE_SUFFIX} added.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target}.
+     *
+     * @return true if {@code source} had an address book to convert.
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code target} could not be written.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + addressBook.get().getPersonList().size() + " persons from "
+                + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target} if {@code target} has no data file yet, so that
+     * switching storage formats carries the data over. An existing {@code target} file is never overwritten.
+     * Once converted, the files of {@code source} are moved to their backup paths, replacing any older backup, so that
+     * switching back converts the data again instead of reading the files left behind before the first switch.
+     *
+     * @return true if the address book was converted.
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code target} could not be written.
+     */
+    public static boolean convertIfMissing(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        if (Files.exists(target.getAddressBookFilePath()) || !convert(source, target)) {
+            return false;
+        }
+        moveToBackup(source.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Moves the data file at {@code filePath} and its journal, if any, to their backup paths.
+     */
+    private static void moveToBackup(Path filePath) throws IOException {
+        Path backupPath = getBackupFilePath(filePath);
+        Files.move(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        Path backupJournalPath = JournalAddressBookStorage.getJournalFilePath(backupPath);
+        if (Files.exists(journalPath)) {
+            Files.move(journalPath, backupJournalPath, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(backupJournalPath);
+        }
+        logger.info("Moved " + filePath + " to " + backupPath);
+    }
+
+}
@@ -0,0 +1,155 @@
+package homey.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import homey.commons.core.LogsCenter;
+import homey.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on an {@code Executor}, so that callers do not wait for the
+ * disk.
+ *
+ * Only the latest address book given is saved: address books given while an earlier one is being written replace
+ * each other, and are written once the earlier write is done. The address books given must not change afterwards,
+ * such as the snapshots from {@link homey.model.Model#getAddressBookSnapshot()}. A failed save is kept until it is
+ * taken with {@link #takeFailure()}.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+
+    private ReadOnlyAddressBook pending;
+    private int pendingCount;
+    private boolean isScheduled;
+    private IOException failure;
+
+    /**
+     * Creates an {@code AddressBookSaver} that saves to {@code storage} on {@code executor}.
+     */
+    public AddressBookSaver(AddressBookStorage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns an {@code AddressBookSaver} that saves to {@code storage} on a background thread of its own.
+     */
+    public static AddressBookSaver inBackground(AddressBookStorage storage) {
+        return new AddressBookSaver(storage, Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, in place of any address book that is waiting to be saved.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            pending = addressBook;
+            pendingCount++;
+            if (isScheduled) {
+                return;
+            }
+            isScheduled = true;
+        }
+        executor.execute(this::savePending);
+    }
+
+    /**
+     * Returns the failure of the last save that failed since this was last called, if any.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> lastFailure = Optional.ofNullable(failure);
+        failure = null;
+        return lastFailure;
+    }
+
+    /**
+     * Waits until every address book given so far has been saved.
+     *
+     * @throws IOException if a save failed since the last failure was taken.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            while (isScheduled) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        Optional<IOException> lastFailure = takeFailure();
+        if (lastFailure.isPresent()) {
+            throw lastFailure.get();
+        }
+    }
+
+    /**
+     * Saves every address book given so far, then stops the background thread if there is one.
+     *
+     * @throws IOException if a save failed since the last failure was taken.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (executor instanceof ExecutorService) {
+                ((ExecutorService) executor).shutdown();
+            }
+        }
+    }
+
+    /**
+     * Saves the pending address book until there is none left.
+     */
+    private void savePending() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            int coalesced;
+            synchronized (this) {
+                if (pending == null) {
+                    isScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                addressBook = pending;
+                coalesced = pendingCount;
+                pending = null;
+                pendingCount = 0;
+            }
+
+            long bytesWrittenBefore = storage.getAddressBookBytesWritten();
+            try {
+                storage.saveAddressBook(addressBook);
+                logger.info("Address book saved, " + (storage.getAddressBookBytesWritten() - bytesWrittenBefore)
+                        + " bytes written for " + coalesced + " change(s)");
+            } catch (IOException ioe) {
+                recordFailure(ioe);
+            } catch (RuntimeException re) {
+                recordFailure(new IOException(re));
+            }
+        }
+    }
+
+    private synchronized void recordFailure(IOException ioe) {
+        logger.warning("Could not save address book: " + ioe);
+        failure = ioe;
+    }
+}
@@ -43,4 +43,9 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns the total number of bytes written by this storage when saving address books.
+     */
+    long getAddressBookBytesWritten();
+
 }
@@ -0,0 +1,491 @@
+package homey.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import homey.commons.exceptions.IllegalValueException;
+import homey.model.AddressBook;
+import homey.model.ReadOnlyAddressBook;
+import homey.model.person.Address;
+import homey.model.person.ContactDetails;
+import homey.model.person.Email;
+import homey.model.person.Meeting;
+import homey.model.person.Name;
+import homey.model.person.Person;
+import homey.model.person.Phone;
+import homey.model.person.Remark;
+import homey.model.tag.Relation;
+import homey.model.tag.Tag;
+import homey.model.tag.TransactionStage;
+
+/**
+ * Writes and reads address books in the binary format of {@link BinaryAddressBookStorage}.
+ *
+ * A file starts with {@link #MAGIC}, the format {@link #VERSION} and the number of persons, followed by the persons.
+ * Each person is its id, name, phone, email and address, the codes of its relation and stage, its remark, its tags,
+ * a byte of flags and, if it has one, its meeting in minutes since the epoch. Strings are written as their length in
+ * bytes followed by their UTF-8 bytes, and numbers as variable-length integers of 7 bits per byte, so that a small
+ * number takes a single byte.
+ */
+final class BinaryAddressBookFormat {
+
+    /** The first four bytes of every file, "HMYB". */
+    static final int MAGIC = 0x484d5942;
+
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_FILE = "Not a binary address book file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d.";
+    static final String MESSAGE_CORRUPT_FILE = "Corrupt binary address book file: %s";
+
+    private static final String[] RELATIONS = {"client", "vendor"};
+    private static final String[] STAGES = TransactionStage.VALID_STAGES;
+
+    private static final int FLAG_ARCHIVED = 1;
+    private static final int FLAG_HAS_MEETING = 2;
+
+    /** No valid field is anywhere near this long, so a longer length means the file is corrupt. */
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code source} to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook source, DataOutput out) throws IOException {
+        List<Person> persons = source.getPersonList();
+        out.writeInt(MAGIC);
+        writeVarLong(out, VERSION);
+        writeVarLong(out, persons.size());
+        for (Person person : persons) {
+            writePerson(person, out);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}.
+     *
+     * @throws IOException if {@code in} does not hold an address book in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(DataInput in) throws IOException, IllegalValueException {
+        return new StreamDecoder(in).readAddressBook();
+    }
+
+    /**
+     * Reads an address book from the remaining bytes of {@code buffer}, decoding the values directly from it.
+     * If {@code areDetailsLazy}, the phone, email, address and remark of each person are checked but not kept: they
+     * are decoded from {@code buffer} again whenever they are needed and not in a {@link ContactDetailsCache} of the
+     * address book, so {@code buffer} must not change afterwards.
+     *
+     * @throws IOException if {@code buffer} does not hold an address book in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(ByteBuffer buffer, boolean areDetailsLazy) throws IOException, IllegalValueException {
+        try {
+            LazyDetails lazyDetails = areDetailsLazy ? new LazyDetails(buffer.duplicate()) : null;
+            return new BufferDecoder(buffer, lazyDetails).readAddressBook();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new EOFException(String.format(MESSAGE_CORRUPT_FILE, "unexpected end of file"));
+        }
+    }
+
+    private static void writePerson(Person person, DataOutput out) throws IOException {
+        writeVarLong(out, person.getId());
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeVarLong(out, codeOf(RELATIONS, person.getRelation().value));
+        writeVarLong(out, codeOf(STAGES, person.getStage().value));
+        writeString(out, person.getRemark().value);
+        writeVarLong(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(out, tag.tagName);
+        }
+
+        Optional<Meeting> meeting = person.getMeeting();
+        out.writeByte((person.isArchived() ? FLAG_ARCHIVED : 0) | (meeting.isPresent() ? FLAG_HAS_MEETING : 0));
+        if (meeting.isPresent()) {
+            long epochMinute = meeting.get().getDateTime().toEpochSecond(ZoneOffset.UTC) / 60;
+            writeVarLong(out, (epochMinute << 1) ^ (epochMinute >> 63));
+        }
+    }
+
+    private static int codeOf(String[] values, String value) {
+        int code = Arrays.asList(values).indexOf(value);
+        assert code >= 0 : "Unknown value " + value;
+        return code;
+    }
+
+    private static String valueOf(String[] values, long code) throws IOException {
+        if (code < 0 || code >= values.length) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "value code " + code));
+        }
+        return values[(int) code];
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, 7 bits at a time from the lowest, setting the top bit of
+     * every byte but the last.
+     */
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        assert value >= 0;
+        long remaining = value;
+        while ((remaining & ~0x7fL) != 0) {
+            out.writeByte((int) (remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    /**
+     * Reads the values of a file in this format, from a source given by a subclass.
+     */
+    private abstract static class Decoder {
+
+        abstract int readUnsignedByte() throws IOException;
+
+        abstract int readInt() throws IOException;
+
+        /**
+         * Reads a string of {@code length} UTF-8 bytes.
+         */
+        abstract String readString(int length) throws IOException;
+
+        /**
+         * Returns where the phone, email, address and remark of persons are read from later, or null if they should
+         * be read now.
+         */
+        LazyDetails getLazyDetails() {
+            return null;
+        }
+
+        /**
+         * Skips the phone, email and address of a person and returns where they start. Only called if
+         * {@link #getLazyDetails()} is not null.
+         */
+        int skipDetails() throws IOException {
+            throw new IllegalStateException("Details are read now");
+        }
+
+        /**
+         * Skips a string, by default by reading it.
+         */
+        void skipString() throws IOException {
+            readString();
+        }
+
+        AddressBook readAddressBook() throws IOException, IllegalValueException {
+            if (readInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            long version = readVarLong();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            long count = readVarLong();
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "person count " + count));
+            }
+            ParallelPersonConverter<DecodedPerson> converter =
+                    new ParallelPersonConverter<>(DecodedPerson::toModelType);
+            try {
+                for (long i = 0; i < count; i++) {
+                    converter.add(readPerson());
+                }
+            } catch (IOException ioe) {
+                converter.finish();
+                throw ioe;
+            }
+            return JsonSerializableAddressBook.toAddressBook(converter.finish());
+        }
+
+        /**
+         * Reads the values of the next person, leaving them to be checked and turned into a {@code Person} later.
+         */
+        private DecodedPerson readPerson() throws IOException {
+            DecodedPerson decoded = new DecodedPerson();
+            decoded.id = readVarLong();
+            decoded.name = readString();
+            decoded.lazyDetails = getLazyDetails();
+            if (decoded.lazyDetails != null) {
+                decoded.detailsPosition = skipDetails();
+            } else {
+                decoded.phone = readString();
+                decoded.email = readString();
+                decoded.address = readString();
+            }
+            decoded.relation = valueOf(RELATIONS, readVarLong());
+            decoded.stage = valueOf(STAGES, readVarLong());
+            if (decoded.lazyDetails != null) {
+                skipString();
+            } else {
+                decoded.remark = readString();
+            }
+            long tagCount = readVarLong();
+            if (tagCount < 0 || tagCount > MAX_STRING_BYTES) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "tag count " + tagCount));
+            }
+            decoded.tagNames = new ArrayList<>();
+            for (long i = 0; i < tagCount; i++) {
+                decoded.tagNames.add(readString());
+            }
+            decoded.flags = readUnsignedByte();
+            decoded.meetingZigZag = (decoded.flags & FLAG_HAS_MEETING) != 0 ? readVarLong() : -1;
+            return decoded;
+        }
+
+        String readString() throws IOException {
+            return readString(readLength());
+        }
+
+        int readLength() throws IOException {
+            long length = readVarLong();
+            if (length < 0 || length > MAX_STRING_BYTES) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "string length " + length));
+            }
+            return (int) length;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readUnsignedByte();
+                value |= (long) (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "number too long"));
+        }
+    }
+
+    /**
+     * The values of a person as read from a file, before they are checked.
+     */
+    private static final class DecodedPerson {
+        private long id;
+        private String name;
+        private String phone;
+        private String email;
+        private String address;
+        private String relation;
+        private String stage;
+        private String remark;
+        private LazyDetails lazyDetails;
+        private int detailsPosition;
+        private List<String> tagNames;
+        private int flags;
+        private long meetingZigZag;
+
+        /**
+         * Converts these values into a {@code Person}. The model constructors check each value, so a corrupt or
+         * hand-made file cannot create an invalid person.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        private Person toModelType() throws IllegalValueException {
+            if (id <= 0) {
+                throw new IllegalValueException(JsonAdaptedPerson.INVALID_ID_MESSAGE);
+            }
+            try {
+                Set<Tag> tags = new HashSet<>();
+                for (String tagName : tagNames) {
+                    tags.add(Tag.of(tagName));
+                }
+                Optional<Meeting> meeting = Optional.empty();
+                if (meetingZigZag >= 0) {
+                    long epochMinute = (meetingZigZag >>> 1) ^ -(meetingZigZag & 1);
+                    LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60), 0,
+                            ZoneOffset.UTC);
+                    meeting = Optional.of(new Meeting(dateTime));
+                }
+                Person person;
+                if (lazyDetails != null) {
+                    lazyDetails.read(detailsPosition);
+                    person = new Person(new Name(name), Relation.of(relation), TransactionStage.of(stage), tags,
+                            meeting, lazyDetails.loaderOf(detailsPosition));
+                } else {
+                    person = new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                            Relation.of(relation), TransactionStage.of(stage), Remark.of(remark), tags, meeting);
+                }
+                person = person.withId(id);
+                return (flags & FLAG_ARCHIVED) != 0 ? person.archived() : person;
+            } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+                throw new IllegalValueException(e.getMessage());
+            } catch (IOException ioe) {
+                throw new IllegalValueException(ioe.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads a file in this format from a {@code DataInput}, such as a buffered stream over the file.
+     */
+    private static final class StreamDecoder extends Decoder {
+        private final DataInput in;
+
+        private StreamDecoder(DataInput in) {
+            this.in = in;
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            return in.readUnsignedByte();
+        }
+
+        @Override
+        int readInt() throws IOException {
+            return in.readInt();
+        }
+
+        @Override
+        String readString(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads a file in this format from a {@code ByteBuffer}, such as the file mapped into memory, decoding strings
+     * straight from the buffer instead of copying their bytes out first.
+     */
+    private static final class BufferDecoder extends Decoder {
+        private final ByteBuffer buffer;
+        private final LazyDetails lazyDetails;
+        private char[] chars = new char[256];
+
+        private BufferDecoder(ByteBuffer buffer, LazyDetails lazyDetails) {
+            this.buffer = buffer;
+            this.lazyDetails = lazyDetails;
+        }
+
+        @Override
+        LazyDetails getLazyDetails() {
+            return lazyDetails;
+        }
+
+        @Override
+        int skipDetails() throws IOException {
+            int position = buffer.position();
+            skipString();
+            skipString();
+            skipString();
+            return position;
+        }
+
+        @Override
+        void skipString() throws IOException {
+            int length = readLength();
+            checkRemaining(length);
+            buffer.position(buffer.position() + length);
+        }
+
+        @Override
+        int readUnsignedByte() {
+            return buffer.get() & 0xff;
+        }
+
+        @Override
+        int readInt() {
+            return buffer.getInt();
+        }
+
+        /**
+         * Decodes ASCII strings, which most fields are, a byte per character, and others with the UTF-8 decoder.
+         */
+        @Override
+        String readString(int length) throws EOFException {
+            checkRemaining(length);
+            int start = buffer.position();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                byte b = buffer.get(start + i);
+                if (b < 0) {
+                    buffer.position(start + length);
+                    return decode(buffer, start, length);
+                }
+                chars[i] = (char) b;
+            }
+            buffer.position(start + length);
+            return new String(chars, 0, length);
+        }
+
+        private void checkRemaining(int length) throws EOFException {
+            if (length > buffer.remaining()) {
+                throw new EOFException(String.format(MESSAGE_CORRUPT_FILE, "unexpected end of file"));
+            }
+        }
+
+        private static String decode(ByteBuffer buffer, int start, int length) {
+            return StandardCharsets.UTF_8.decode(buffer.slice(start, length)).toString();
+        }
+    }
+
+    /**
+     * The phone, email, address and remark of the persons of a file, left in the file until they are needed.
+     */
+    private static final class LazyDetails {
+        /** The file, whose position is never moved, so that it can be read from any thread. */
+        private final ByteBuffer buffer;
+        private final ContactDetailsCache cache = new ContactDetailsCache(ContactDetailsCache.DEFAULT_CAPACITY);
+
+        private LazyDetails(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads the details starting at {@code position}, checking each value.
+         */
+        private ContactDetails read(int position) throws IOException {
+            Decoder decoder = new BufferDecoder(buffer.duplicate().position(position), null);
+            Phone phone = new Phone(decoder.readString());
+            Email email = new Email(decoder.readString());
+            Address address = new Address(decoder.readString());
+            decoder.readVarLong();
+            decoder.readVarLong();
+            return new ContactDetails(phone, email, address, Remark.of(decoder.readString()));
+        }
+
+        /**
+         * Returns a loader of the details starting at {@code position}, which must have been read once already.
+         */
+        private Supplier<ContactDetails> loaderOf(int position) {
+            return () -> cache.get(position, unused -> {
+                try {
+                    return read(position);
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package homey.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import homey.commons.core.Config;
+import homey.commons.core.LogsCenter;
+import homey.commons.exceptions.DataLoadingException;
+import homey.commons.exceptions.IllegalValueException;
+import homey.commons.util.DataLoadMode;
+import homey.commons.util.FileUtil;
+import homey.commons.util.WriteMode;
+import homey.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file holds the same data as the json file of {@link JsonAddressBookStorage}, in the format described in
+ * {@link BinaryAddressBookFormat}, which is quicker to load and save and smaller, but cannot be edited by hand.
+ * The whole file is rewritten on every save. {@link AddressBookFileConverter} converts between the two files.
+ * Depending on its {@link DataLoadMode}, the file is read through a stream or decoded straight from a memory mapping
+ * of it, optionally leaving the contact details of each person in the mapping until they are needed. Windows cannot
+ * replace a file while it is mapped, which every save does, so the file is always read through a stream there.
+ * A {@code WriteMode.DIRECT} save would overwrite the mapped file in place while persons may still be read from it,
+ * so the file is always read through a stream with that write mode too.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final boolean CAN_REPLACE_MAPPED_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private final Path filePath;
+    private final WriteMode writeMode;
+    private final DataLoadMode loadMode;
+    private long bytesWritten;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_DATA_WRITE_MODE);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that writes its file at {@code filePath} in the given
+     * {@code writeMode}.
+     */
+    public BinaryAddressBookStorage(Path filePath, WriteMode writeMode) {
+        this(filePath, writeMode, Config.DEFAULT_DATA_LOAD_MODE);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that writes its file at {@code filePath} in the given
+     * {@code writeMode} and reads it in the given {@code loadMode}.
+     */
+    public BinaryAddressBookStorage(Path filePath, WriteMode writeMode, DataLoadMode loadMode) {
+        this.filePath = filePath;
+        this.writeMode = writeMode;
+        if (loadMode != DataLoadMode.STREAMED && !CAN_REPLACE_MAPPED_FILES) {
+            logger.info("Mapped files cannot be replaced on this platform; reading " + filePath + " "
+                    + DataLoadMode.STREAMED + " instead of " + loadMode);
+            this.loadMode = DataLoadMode.STREAMED;
+        } else if (loadMode != DataLoadMode.STREAMED && writeMode == WriteMode.DIRECT) {
+            logger.info("Saving in place would overwrite the mapping being read from; reading " + filePath + " "
+                    + DataLoadMode.STREAMED + " instead of " + loadMode);
+            this.loadMode = DataLoadMode.STREAMED;
+        } else {
+            this.loadMode = loadMode;
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(loadMode == DataLoadMode.STREAMED ? readStreamed(filePath) : readMapped(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private ReadOnlyAddressBook readStreamed(Path filePath) throws IOException, IllegalValueException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE))) {
+            return BinaryAddressBookFormat.read(in);
+        }
+    }
+
+    /**
+     * Reads the file at {@code filePath} from a read-only mapping of it. The mapping outlives the channel, and is
+     * released once neither the decoder nor any remark left in it refers to it.
+     */
+    private ReadOnlyAddressBook readMapped(Path filePath) throws IOException, IllegalValueException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File of " + size + " bytes is too large to map; use the STREAMED load mode");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return BinaryAddressBookFormat.read(buffer, loadMode == DataLoadMode.LAZY);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            BinaryAddressBookFormat.write(addressBook, dataOut);
+            dataOut.flush();
+        }, writeMode);
+        bytesWritten += Files.size(filePath);
+    }
+
+    @Override
+    public long getAddressBookBytesWritten() {
+        return bytesWritten;
+    }
+
+}
@@ -0,0 +1,58 @@
+package homey.storage;
+
+import static homey.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import homey.model.person.ContactDetails;
+
+/**
+ * A bounded cache of the contact details of lazily loaded persons, keyed by where the details are in the data file.
+ *
+ * Once it holds {@code capacity} details, the least recently used are dropped to make room, so however many persons
+ * are viewed, edited or searched by address in a session, only the details of the last {@code capacity} of them are
+ * kept in memory. Details are read outside the lock, so a slow read does not hold up other threads; two threads
+ * missing the same details at once may both read them.
+ */
+class ContactDetailsCache {
+
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<Integer, ContactDetails> detailsByPosition;
+
+    /**
+     * Creates a {@code ContactDetailsCache} holding the details of at most {@code capacity} persons.
+     */
+    ContactDetailsCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        detailsByPosition = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ContactDetails> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the details at {@code position}, reading them with {@code reader} if they are not cached.
+     */
+    ContactDetails get(int position, IntFunction<ContactDetails> reader) {
+        synchronized (this) {
+            ContactDetails details = detailsByPosition.get(position);
+            if (details != null) {
+                return details;
+            }
+        }
+        ContactDetails details = reader.apply(position);
+        synchronized (this) {
+            detailsByPosition.put(position, details);
+        }
+        return details;
+    }
+
+    synchronized int size() {
+        return detailsByPosition.size();
+    }
+}
@@ -0,0 +1,300 @@
+package homey.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import homey.commons.core.Config;
+import homey.commons.core.LogsCenter;
+import homey.commons.exceptions.DataLoadingException;
+import homey.commons.exceptions.IllegalValueException;
+import homey.commons.util.JsonLayout;
+import homey.commons.util.JsonUtil;
+import homey.commons.util.WriteMode;
+import homey.model.AddressBook;
+import homey.model.ReadOnlyAddressBook;
+import homey.model.person.Person;
+import homey.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since the snapshot.
+ *
+ * The snapshot is the same json file that {@link JsonAddressBookStorage} writes. Each save compares the address book
+ * with the one saved last, by person id, and appends one line per added, replaced or removed person to the journal
+ * next to the snapshot, so the cost of a save grows with the size of the change rather than the size of the book.
+ * When the journal has grown larger than the snapshot, or the persons have been reordered, a fresh snapshot is written
+ * and the journal is deleted. Reading replays the journal over the snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final WriteMode writeMode;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    /** The persons as last saved to {@code filePath}, or null if they are not known to match the files. */
+    private List<Person> savedPersons;
+    private long snapshotBytes;
+    private long journalBytes;
+    private long bytesWritten;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} keeping its snapshot at {@code filePath}.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_DATA_WRITE_MODE);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} keeping its snapshot at {@code filePath}, which writes the snapshot
+     * in the given {@code writeMode} and forces each journal append to disk if it is {@code WriteMode.DURABLE}.
+     */
+    public JournalAddressBookStorage(Path filePath, WriteMode writeMode) {
+        this(filePath, writeMode, Config.DEFAULT_DATA_FILE_LAYOUT);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} keeping its snapshot at {@code filePath}, which writes the snapshot
+     * in the given {@code writeMode} and {@code layout}. Journal records are always written one per line.
+     */
+    public JournalAddressBookStorage(Path filePath, WriteMode writeMode, JsonLayout layout) {
+        this.filePath = filePath;
+        this.writeMode = writeMode;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, writeMode, layout);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A journal whose last line was cut short by an interrupted save is read up to that line.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            return snapshot;
+        }
+
+        JournalReplay replay = new JournalReplay(snapshot.isPresent() ? snapshot.get().getPersonList() : List.of());
+        int records = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    applyRecord(line, replay, nextLine == null);
+                    records++;
+                }
+                line = nextLine;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        logger.info("Replayed " + records + " journal records from " + journalPath);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(replay.toList());
+        } catch (DuplicatePersonException dpe) {
+            IllegalValueException ive = new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own file path are journaled; saves to any other path write a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        // Forget the saved persons until this save succeeds, so a failed save is followed by a fresh snapshot.
+        List<Person> saved = savedPersons;
+        savedPersons = null;
+        List<Person> persons = addressBook.getPersonList();
+        Optional<String> records = saved == null ? Optional.empty() : diff(saved, persons);
+        if (records.isEmpty()) {
+            compact(addressBook);
+        } else if (!records.get().isEmpty()) {
+            byte[] bytes = records.get().getBytes(StandardCharsets.UTF_8);
+            if (journalBytes + bytes.length > snapshotBytes) {
+                compact(addressBook);
+            } else {
+                appendToJournal(bytes);
+                journalBytes += bytes.length;
+                bytesWritten += bytes.length;
+                logger.fine("Appended " + bytes.length + " bytes to the journal of " + filePath);
+            }
+        }
+        savedPersons = new ArrayList<>(persons);
+    }
+
+    @Override
+    public long getAddressBookBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void appendToJournal(byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (writeMode == WriteMode.DURABLE) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Writes a fresh snapshot of {@code addressBook} and deletes the journal.
+     * The journal is deleted only after the snapshot is written; if that is interrupted, replaying the journal over
+     * the new snapshot gives back the same persons.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        writeSnapshot(addressBook, filePath);
+        snapshotBytes = Files.size(filePath);
+        journalBytes = 0;
+        logger.info("Compacted " + filePath + " into a snapshot of " + snapshotBytes + " bytes");
+    }
+
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        bytesWritten += Files.size(filePath);
+    }
+
+    /**
+     * Returns the journal lines that turn {@code saved} into {@code current}, or an empty {@code Optional} if the
+     * persons kept from {@code saved} are no longer in the same order.
+     */
+    private static Optional<String> diff(List<Person> saved, List<Person> current) throws IOException {
+        StringBuilder records = new StringBuilder();
+        Set<Long> savedIds = null;
+        Set<Long> currentIds = null;
+        int i = 0;
+        int j = 0;
+        while (i < current.size() || j < saved.size()) {
+            if (i < current.size() && j < saved.size() && current.get(i).getId() == saved.get(j).getId()) {
+                if (!isSaved(current.get(i), saved.get(j))) {
+                    appendRecord(records, JsonAdaptedJournalRecord.set(current.get(i)));
+                }
+                i++;
+                j++;
+                continue;
+            }
+
+            if (savedIds == null) {
+                savedIds = idsOf(saved);
+                currentIds = idsOf(current);
+            }
+            if (j < saved.size() && !currentIds.contains(saved.get(j).getId())) {
+                appendRecord(records, JsonAdaptedJournalRecord.removed(saved.get(j).getId()));
+                j++;
+            } else if (i < current.size() && !savedIds.contains(current.get(i).getId())) {
+                appendRecord(records, JsonAdaptedJournalRecord.added(i, current.get(i)));
+                i++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(records.toString());
+    }
+
+    /**
+     * Returns true if {@code current} would be saved exactly as {@code saved} was.
+     * {@code Person#equals} does not compare the relation or archive status, which are saved too.
+     */
+    private static boolean isSaved(Person current, Person saved) {
+        return current == saved
+                || (current.equals(saved)
+                        && current.getRelation().equals(saved.getRelation())
+                        && current.isArchived() == saved.isArchived());
+    }
+
+    private static Set<Long> idsOf(List<Person> persons) {
+        Set<Long> ids = new HashSet<>();
+        persons.forEach(person -> ids.add(person.getId()));
+        return ids;
+    }
+
+    private static void appendRecord(StringBuilder records, JsonAdaptedJournalRecord record) throws IOException {
+        records.append(JsonUtil.toCompactJsonString(record)).append('\n');
+    }
+
+    /**
+     * Applies the journal record in {@code line} to {@code replay}.
+     * A malformed {@code line} is skipped if it is the last line, which an interrupted save may have left unfinished.
+     */
+    private static void applyRecord(String line, JournalReplay replay, boolean isLastLine)
+            throws IOException, IllegalValueException {
+        JsonAdaptedJournalRecord record;
+        try {
+            record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+        } catch (IOException ioe) {
+            if (!isLastLine) {
+                throw ioe;
+            }
+            logger.warning("Ignoring unfinished last journal record: " + ioe.getMessage());
+            return;
+        }
+        record.applyTo(replay);
+    }
+
+}
@@ -0,0 +1,105 @@
+package homey.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import homey.model.person.Person;
+
+/**
+ * The persons of an address book while the records of a journal are applied to them.
+ *
+ * Persons are found by id. A removed person leaves an empty slot behind until {@link #toList()} is called, so
+ * replacing and removing a person, and adding one at the end, take constant time. Adding a person anywhere else
+ * shifts the persons after it.
+ *
+ * Applying a record that has already been applied has no further effect: a person whose id is present is not added
+ * again, and replacing or removing a person whose id is absent is ignored. This lets a journal be replayed over a
+ * snapshot that already includes some of its records.
+ */
+class JournalReplay {
+
+    private final List<Person> slots;
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private int size;
+
+    /**
+     * Creates a {@code JournalReplay} starting from {@code persons}.
+     */
+    JournalReplay(List<Person> persons) {
+        slots = new ArrayList<>(persons);
+        size = slots.size();
+        for (int slot = 0; slot < slots.size(); slot++) {
+            slotsById.put(slots.get(slot).getId(), slot);
+        }
+    }
+
+    /**
+     * Adds {@code person} so that it is at {@code index} among the persons present, or at the end if there are not
+     * that many persons. Replaces the person with the same id instead if there is one.
+     */
+    void add(int index, Person person) {
+        if (slotsById.containsKey(person.getId())) {
+            set(person);
+            return;
+        }
+        if (index >= size) {
+            slotsById.put(person.getId(), slots.size());
+            slots.add(person);
+        } else {
+            int slot = slotOf(Math.max(index, 0));
+            slots.add(slot, person);
+            for (int i = slot; i < slots.size(); i++) {
+                if (slots.get(i) != null) {
+                    slotsById.put(slots.get(i).getId(), i);
+                }
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Replaces the person with the same id as {@code person}, if there is one.
+     */
+    void set(Person person) {
+        Integer slot = slotsById.get(person.getId());
+        if (slot != null) {
+            slots.set(slot, person);
+        }
+    }
+
+    /**
+     * Removes the person with {@code id}, if there is one.
+     */
+    void remove(long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot != null) {
+            slots.set(slot, null);
+            size--;
+        }
+    }
+
+    /**
+     * Returns the persons present, in order.
+     */
+    List<Person> toList() {
+        List<Person> persons = new ArrayList<>(size);
+        slots.stream().filter(Objects::nonNull).forEach(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns the slot of the person at {@code index} among the persons present.
+     */
+    private int slotOf(int index) {
+        int remaining = index;
+        int slot = 0;
+        while (slots.get(slot) == null || remaining-- > 0) {
+            slot++;
+        }
+        return slot;
+    }
+
+}
@@ -0,0 +1,96 @@
+package homey.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import homey.commons.exceptions.IllegalValueException;
+import homey.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the persons of an address book, as kept in a journal.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_REMOVE = "remove";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String INVALID_OPERATION_MESSAGE_FORMAT = "Journal record has an unknown operation: %s";
+
+    private final String op;
+    private final Integer index;
+    private final Long id;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("id") Long id, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.id = id;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record of {@code person} being added at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord added(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, index, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of the person with the id of {@code person} being replaced by {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_SET, null, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of the person with {@code id} being removed.
+     */
+    public static JsonAdaptedJournalRecord removed(long id) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, null, id, null);
+    }
+
+    /**
+     * Applies this record to {@code persons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(JournalReplay persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+        switch (op) {
+        case OPERATION_ADD:
+            if (index == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+            }
+            persons.add(index, toModelPerson());
+            break;
+        case OPERATION_SET:
+            persons.set(toModelPerson());
+            break;
+        case OPERATION_REMOVE:
+            if (id == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+            }
+            persons.remove(id);
+            break;
+        default:
+            throw new IllegalValueException(String.format(INVALID_OPERATION_MESSAGE_FORMAT, op));
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+}
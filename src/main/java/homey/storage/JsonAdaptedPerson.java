@@ -28,6 +28,9 @@ import homey.model.tag.TransactionStage;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Person's id should be a positive number.";
+
+    private final Long id;
 
     private final String name;
     private final String phone;
@@ -42,14 +45,16 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
-     * Now also accepts {@code isArchived} to persist the archive status.
+     * Also accepts {@code isArchived} to persist the archive status, and the {@code id} of the person.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("relation") String relation, @JsonProperty("stage") String stage,
-            @JsonProperty("remark") String remark, @JsonProperty("tags") List<JsonAdaptedTag> tags,
-            @JsonProperty("meeting") String meeting, @JsonProperty("isArchived") Boolean isArchived) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("relation") String relation,
+            @JsonProperty("stage") String stage, @JsonProperty("remark") String remark,
+            @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("meeting") String meeting,
+            @JsonProperty("isArchived") Boolean isArchived) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,12 +69,20 @@ class JsonAdaptedPerson {
         this.isArchived = isArchived;
     }
 
+    /**
+     * Overloaded constructor for a person saved without an id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String relation,
+            String stage, String remark, List<JsonAdaptedTag> tags, String meeting, Boolean isArchived) {
+        this(null, name, phone, email, address, relation, stage, remark, tags, meeting, isArchived);
+    }
+
     /**
      * Overloaded constructor
      */
     public JsonAdaptedPerson(String name, String phone, String email, String address,
                              String relation, String stage, String remark, List<JsonAdaptedTag> tags) {
-        this(name, phone, email, address, relation, stage, remark, tags, null, null);
+        this(null, name, phone, email, address, relation, stage, remark, tags, null, null);
     }
 
     /**
@@ -77,6 +90,7 @@ class JsonAdaptedPerson {
      * Now also maps {@code isArchived}.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -91,9 +105,17 @@ class JsonAdaptedPerson {
         this.isArchived = source.isArchived();
     }
 
+    /**
+     * Returns true if this person was saved with an id.
+     */
+    boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
-     * Archive status defaults to {@code false} if missing (backwards compatible with old saves).
+     * Archive status defaults to {@code false} if missing (backwards compatible with old saves), and a person
+     * saved without an id is given a new one.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
@@ -139,7 +161,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Relation.class.getSimpleName()));
         }
-        final Relation modelRelation = new Relation(relation);
+        final Relation modelRelation = Relation.of(relation);
 
         if (stage == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -148,7 +170,7 @@ class JsonAdaptedPerson {
         if (!TransactionStage.isValid(stage)) {
             throw new IllegalValueException(TransactionStage.MESSAGE_CONSTRAINTS);
         }
-        final TransactionStage modelStage = new TransactionStage(stage);
+        final TransactionStage modelStage = TransactionStage.of(stage);
 
         Optional<Meeting> modelMeeting = Optional.empty();
         if (meeting != null && !meeting.trim().isEmpty()) {
@@ -160,9 +182,13 @@ class JsonAdaptedPerson {
 
         final Remark modelRemark;
         if (remark == null) {
-            modelRemark = new Remark("");
+            modelRemark = Remark.EMPTY;
         } else {
-            modelRemark = new Remark(remark);
+            modelRemark = Remark.of(remark);
+        }
+
+        if (id != null && id <= 0) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
@@ -170,6 +196,9 @@ class JsonAdaptedPerson {
         final boolean modelArchived = (isArchived != null) && isArchived;
         Person modelPerson = new Person(modelName, modelPhone, modelEmail, modelAddress,
                 modelRelation, modelStage, modelRemark, modelTags, modelMeeting);
+        if (id != null) {
+            modelPerson = modelPerson.withId(id);
+        }
         if (modelArchived) {
             modelPerson = modelPerson.archived();
         }
@@ -2,16 +2,25 @@ package homey.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import homey.commons.core.Config;
 import homey.commons.core.LogsCenter;
 import homey.commons.exceptions.DataLoadingException;
 import homey.commons.exceptions.IllegalValueException;
 import homey.commons.util.FileUtil;
+import homey.commons.util.JsonLayout;
 import homey.commons.util.JsonUtil;
+import homey.commons.util.WriteMode;
 import homey.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +31,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final WriteMode writeMode;
+    private final JsonLayout layout;
+    private long bytesWritten;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_DATA_WRITE_MODE);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes its file at {@code filePath} in the given
+     * {@code writeMode}.
+     */
+    public JsonAddressBookStorage(Path filePath, WriteMode writeMode) {
+        this(filePath, writeMode, Config.DEFAULT_DATA_FILE_LAYOUT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes its file at {@code filePath} in the given
+     * {@code writeMode} and {@code layout}.
+     */
+    public JsonAddressBookStorage(Path filePath, WriteMode writeMode, JsonLayout layout) {
         this.filePath = filePath;
+        this.writeMode = writeMode;
+        this.layout = layout;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +75,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +98,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The persons are written to the file one at a time as they are converted, so saving does not hold a copy of
+     * the whole file in memory.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +107,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, layout)) {
+                JsonSerializableAddressBook.write(addressBook, generator);
+            }
+        }, writeMode);
+        bytesWritten += Files.size(filePath);
+    }
+
+    @Override
+    public long getAddressBookBytesWritten() {
+        return bytesWritten;
     }
 
 }
@@ -1,17 +1,26 @@
 package homey.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import homey.commons.exceptions.IllegalValueException;
 import homey.model.AddressBook;
 import homey.model.ReadOnlyAddressBook;
 import homey.model.person.Person;
+import homey.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +29,7 @@ import homey.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains duplicate id(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -42,17 +52,115 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons are converted in parallel; if several are invalid, the first of them is reported.
+     * Persons saved without an id are given one once every saved id has been read, so that it differs from them all.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        ParallelPersonConverter<JsonAdaptedPerson> converter =
+                new ParallelPersonConverter<>(JsonAdaptedPerson::toModelType);
+        BitSet positionsWithoutId = new BitSet();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            addPerson(converter, jsonAdaptedPerson, positionsWithoutId);
+        }
+        return toAddressBook(withNewIds(converter.finish(), positionsWithoutId));
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser} into the model's {@code AddressBook}
+     * object, converting the persons in parallel batches while the rest of the file is parsed instead of holding the
+     * whole file in memory first. Fields other than {@code persons} are skipped. If the file is both malformed and
+     * holds an invalid person before the malformed part, the invalid person is reported, as it would be if the
+     * persons were converted one at a time. Persons saved without an id are given one as in {@link #toModelType()}.
+     *
+     * @throws IOException if the data is not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        ParallelPersonConverter<JsonAdaptedPerson> converter =
+                new ParallelPersonConverter<>(JsonAdaptedPerson::toModelType);
+        BitSet positionsWithoutId = new BitSet();
+        try {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals("persons") || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of persons");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addPerson(converter, parser.readValueAs(JsonAdaptedPerson.class), positionsWithoutId);
+                }
+            }
+        } catch (IOException ioe) {
+            converter.finish();
+            throw ioe;
+        }
+        return toAddressBook(withNewIds(converter.finish(), positionsWithoutId));
+    }
+
+    /**
+     * Adds {@code person} to {@code converter}, recording its position in {@code positionsWithoutId} if it was saved
+     * without an id.
+     */
+    private static void addPerson(ParallelPersonConverter<JsonAdaptedPerson> converter, JsonAdaptedPerson person,
+            BitSet positionsWithoutId) throws IllegalValueException {
+        if (!person.hasId()) {
+            positionsWithoutId.set(converter.size());
+        }
+        converter.add(person);
+    }
+
+    /**
+     * Gives the persons at {@code positionsWithoutId} in {@code modelPersons} new ids. The ids they were given when
+     * converted may equal the saved id of a person read after them, but ids given out once every saved id has been
+     * read cannot.
+     */
+    private static List<Person> withNewIds(List<Person> modelPersons, BitSet positionsWithoutId) {
+        positionsWithoutId.stream().forEach(i -> modelPersons.set(i, modelPersons.get(i).withNewId()));
+        return modelPersons;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, converting and writing one person at a
+     * time instead of building the whole document in memory first.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons or persons with the same id.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        Set<Long> ids = new HashSet<>();
+        for (Person person : modelPersons) {
+            if (!ids.add(person.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
             }
-            addressBook.addPerson(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
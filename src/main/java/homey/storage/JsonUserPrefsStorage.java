@@ -4,8 +4,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import homey.commons.core.Config;
 import homey.commons.exceptions.DataLoadingException;
 import homey.commons.util.JsonUtil;
+import homey.commons.util.WriteMode;
 import homey.model.ReadOnlyUserPrefs;
 import homey.model.UserPrefs;
 
@@ -15,9 +17,18 @@ import homey.model.UserPrefs;
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     private Path filePath;
+    private final WriteMode writeMode;
 
     public JsonUserPrefsStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_DATA_WRITE_MODE);
+    }
+
+    /**
+     * Creates a {@code JsonUserPrefsStorage} that writes its file at {@code filePath} in the given {@code writeMode}.
+     */
+    public JsonUserPrefsStorage(Path filePath, WriteMode writeMode) {
         this.filePath = filePath;
+        this.writeMode = writeMode;
     }
 
     @Override
@@ -41,7 +52,7 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFile(userPrefs, filePath, writeMode);
     }
 
 }
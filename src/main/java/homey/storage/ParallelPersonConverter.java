@@ -0,0 +1,170 @@
+package homey.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import homey.commons.exceptions.IllegalValueException;
+import homey.model.person.Person;
+
+/**
+ * Converts values read from a data file into persons on a {@code ForkJoinPool}, keeping their order.
+ *
+ * Values are collected into batches as they are added. Each full batch is converted on the pool while the caller
+ * reads the next one, so reading the file and validating the persons overlap, and the persons of a batch are
+ * validated in parallel. A value that cannot be converted is reported exactly as converting the values one by one
+ * in order would report it: the exception of the first such value is thrown, whatever the order in which the pool
+ * happened to convert them.
+ *
+ * @param <T> type of the values converted.
+ */
+class ParallelPersonConverter<T> {
+
+    static final int BATCH_SIZE = 4096;
+
+    /** Ranges of at most this many values are converted by a single task. */
+    private static final int TASK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final Conversion<T> conversion;
+    private final List<Person> persons = new ArrayList<>();
+
+    private List<T> batch = new ArrayList<>(BATCH_SIZE);
+    private ConvertTask<T> pending;
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts values with {@code conversion} on the common pool.
+     */
+    ParallelPersonConverter(Conversion<T> conversion) {
+        this(ForkJoinPool.commonPool(), conversion);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts values with {@code conversion} on {@code pool}.
+     */
+    ParallelPersonConverter(ForkJoinPool pool, Conversion<T> conversion) {
+        requireNonNull(pool);
+        requireNonNull(conversion);
+        this.pool = pool;
+        this.conversion = conversion;
+    }
+
+    /**
+     * Adds {@code value} to be converted after the values added before it.
+     *
+     * @throws IllegalValueException if an earlier value could not be converted.
+     */
+    void add(T value) throws IllegalValueException {
+        batch.add(value);
+        if (batch.size() == BATCH_SIZE) {
+            submitBatch();
+        }
+    }
+
+    /**
+     * Returns the number of values added so far.
+     */
+    int size() {
+        return persons.size() + (pending == null ? 0 : pending.converted.length) + batch.size();
+    }
+
+    /**
+     * Returns the persons converted from all the values added, in the order they were added.
+     *
+     * @throws IllegalValueException if a value could not be converted.
+     */
+    List<Person> finish() throws IllegalValueException {
+        submitBatch();
+        collectPending();
+        return persons;
+    }
+
+    private void submitBatch() throws IllegalValueException {
+        collectPending();
+        if (!batch.isEmpty()) {
+            pending = new ConvertTask<>(conversion, batch, new Person[batch.size()],
+                    new Exception[batch.size()], 0, batch.size());
+            pool.execute(pending);
+            batch = new ArrayList<>(BATCH_SIZE);
+        }
+    }
+
+    /**
+     * Waits for the batch being converted, and adds its persons or throws the exception of its first failed value.
+     */
+    private void collectPending() throws IllegalValueException {
+        if (pending == null) {
+            return;
+        }
+        ConvertTask<T> task = pending;
+        pending = null;
+        task.join();
+        for (int i = 0; i < task.converted.length; i++) {
+            Exception failure = task.failures[i];
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            persons.add(task.converted[i]);
+        }
+    }
+
+    /**
+     * Converts a value read from a data file into a person.
+     *
+     * @param <T> type of the values converted.
+     */
+    @FunctionalInterface
+    interface Conversion<T> {
+        /**
+         * Returns the person in {@code value}. Must be safe to call from several threads at once.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        Person toPerson(T value) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the values of a batch in a range of positions, splitting the range between forked tasks.
+     */
+    private static final class ConvertTask<T> extends RecursiveAction {
+        private final Conversion<T> conversion;
+        private final List<T> values;
+        private final Person[] converted;
+        private final Exception[] failures;
+        private final int from;
+        private final int to;
+
+        private ConvertTask(Conversion<T> conversion, List<T> values, Person[] converted, Exception[] failures,
+                int from, int to) {
+            this.conversion = conversion;
+            this.values = values;
+            this.converted = converted;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > TASK_SIZE) {
+                int middle = (from + to) >>> 1;
+                ForkJoinTask.invokeAll(new ConvertTask<>(conversion, values, converted, failures, from, middle),
+                        new ConvertTask<>(conversion, values, converted, failures, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                try {
+                    converted[i] = conversion.toPerson(values.get(i));
+                } catch (IllegalValueException | RuntimeException e) {
+                    failures[i] = e;
+                }
+            }
+        }
+    }
+}
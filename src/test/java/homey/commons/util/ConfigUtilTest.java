@@ -65,6 +65,8 @@ public class ConfigUtilTest {
         Config config = new Config();
         config.setLogLevel(Level.INFO);
         config.setUserPrefsFilePath(Paths.get("preferences.json"));
+        config.setDataWriteMode(WriteMode.ATOMIC);
+        config.setDataFileLayout(JsonLayout.COMPACT);
         return config;
     }
 
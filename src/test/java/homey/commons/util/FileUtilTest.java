@@ -1,13 +1,26 @@
 package homey.commons.util;
 
 import static homey.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,57 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_eachWriteMode_replacesContentWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (WriteMode writeMode : WriteMode.values()) {
+            FileUtil.writeToFile(file, "first " + writeMode, writeMode);
+            assertEquals("first " + writeMode, FileUtil.readFromFile(file));
+
+            FileUtil.writeToFile(file, "second", writeMode);
+            assertEquals("second", FileUtil.readFromFile(file));
+            try (Stream<Path> files = Files.list(testFolder)) {
+                assertEquals(List.of(file), files.collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    public void writeToFile_atomicWriteFails_leavesFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old", WriteMode.DURABLE);
+        // a directory in place of the temporary file makes the write fail
+        Files.createDirectory(testFolder.resolve("data.json.tmp"));
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, "new", WriteMode.ATOMIC));
+        assertEquals("old", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_streamedContent_writtenInEachWriteMode() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (WriteMode writeMode : WriteMode.values()) {
+            FileUtil.writeToFile(file, out -> {
+                for (int i = 0; i < 3; i++) {
+                    out.write(("line " + i + " " + writeMode + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }, writeMode);
+            assertEquals(List.of("line 0 " + writeMode, "line 1 " + writeMode, "line 2 " + writeMode),
+                    Files.readAllLines(file));
+        }
+    }
+
+    @Test
+    public void writeToFile_streamedContentFails_leavesFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old", WriteMode.DURABLE);
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("conversion failed");
+        }, WriteMode.ATOMIC));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("data.json.tmp")));
+    }
+
 }
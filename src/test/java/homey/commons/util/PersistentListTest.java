@@ -0,0 +1,77 @@
+package homey.commons.util;
+
+import static homey.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_keepsOrder() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2, 3, 4, 5));
+        assertEquals(List.of(1, 2, 3, 4, 5), list.asList());
+        assertEquals(Integer.valueOf(3), list.get(2));
+        assertTrue(PersistentList.of(List.of()).isEmpty());
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x").asList());
+        assertEquals(List.of("a", "b", "c", "d"), original.plus("d").asList());
+        assertEquals(List.of("x", "a", "b", "c"), original.plus(0, "x").asList());
+        assertEquals(List.of("a", "c"), original.minus(1).asList());
+        assertEquals(List.of("a", "b", "c"), original.asList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 3000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list.asList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+    }
+}
@@ -1,7 +1,9 @@
 package homey.commons.util;
 
 import static homey.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
@@ -10,6 +12,24 @@ import org.junit.jupiter.api.Test;
 
 public class StringUtilTest {
 
+    //---------------- Tests for toSearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey() {
+        assertEquals("emile zola", StringUtil.toSearchKey("  Émile \t ZOLA "));
+        assertEquals("cafe", StringUtil.toSearchKey("CAFÉ"));
+        assertEquals("", StringUtil.toSearchKey("   "));
+
+        // already a search key -> same instance
+        String key = "blk 30 geylang street 29, #06-40";
+        assertSame(key, StringUtil.toSearchKey(key));
+    }
+
+    @Test
+    public void toSearchKey_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+    }
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
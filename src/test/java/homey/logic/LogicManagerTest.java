@@ -17,11 +17,15 @@ import static homey.logic.commands.CommandTestUtil.VALID_TRANSACTION_PROSPECT;
 import static homey.testutil.Assert.assertThrows;
 import static homey.testutil.TypicalPersons.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +42,7 @@ import homey.model.ModelManager;
 import homey.model.ReadOnlyAddressBook;
 import homey.model.UserPrefs;
 import homey.model.person.Person;
+import homey.storage.AddressBookSaver;
 import homey.storage.JsonAddressBookStorage;
 import homey.storage.JsonUserPrefsStorage;
 import homey.storage.StorageManager;
@@ -80,6 +85,54 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + TRANSACTION_DESC_PROSPECT);
+        assertTrue(Files.exists(addressBookPath));
+
+        Files.delete(addressBookPath);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_reportedWithNextCommandAndRetried() throws Exception {
+        List<Runnable> saves = new ArrayList<>();
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saved.isEmpty()) {
+                    saved.add(addressBook);
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                saved.add(addressBook);
+            }
+        };
+        logic = new LogicManager(model, new AddressBookSaver(addressBookStorage, saves::add));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + TRANSACTION_DESC_PROSPECT);
+        assertEquals(1, saves.size());
+        saves.remove(0).run();
+
+        CommandResult result = logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + String.format(LogicManager.MESSAGE_BACKGROUND_SAVE_FAILED,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                result.getFeedbackToUser());
+        assertEquals(1, saves.size());
+        saves.remove(0).run();
+        assertEquals(model.getAddressBook().getPersonList(), saved.get(1).getPersonList());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(saves.isEmpty());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
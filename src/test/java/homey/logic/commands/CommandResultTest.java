@@ -10,6 +10,13 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
+    @Test
+    public void withNote_noteAfterFeedback_otherFieldsKept() {
+        CommandResult commandResult = new CommandResult("feedback", true, false, Optional.of("add"));
+        assertEquals(new CommandResult("feedback\nnote", true, false, Optional.of("add")),
+                commandResult.withNote("note"));
+    }
+
     @Test
     public void equals() {
         CommandResult commandResult = new CommandResult("feedback");
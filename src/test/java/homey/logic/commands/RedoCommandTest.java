@@ -0,0 +1,39 @@
+package homey.logic.commands;
+
+import static homey.logic.commands.CommandTestUtil.assertCommandFailure;
+import static homey.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static homey.logic.commands.UndoCommandTest.deleteFirstPerson;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import homey.model.Model;
+import homey.model.ModelManager;
+import homey.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneChanges_redoesOneAtATime() {
+        deleteFirstPerson(model);
+        deleteFirstPerson(model);
+        model.undoAddressBook();
+        model.undoAddressBook();
+        deleteFirstPerson(expectedModel);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        deleteFirstPerson(expectedModel);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,46 @@
+package homey.logic.commands;
+
+import static homey.logic.commands.CommandTestUtil.assertCommandFailure;
+import static homey.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import homey.model.Model;
+import homey.model.ModelManager;
+import homey.model.UserPrefs;
+import homey.model.person.Person;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noCommittedChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_committedChanges_undoesOneAtATime() {
+        deleteFirstPerson(model);
+        deleteFirstPerson(model);
+        deleteFirstPerson(expectedModel);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    /**
+     * Deletes the first person in {@code model}'s filtered list and commits the change.
+     */
+    static void deleteFirstPerson(Model model) {
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        model.deletePerson(firstPerson);
+        model.commitAddressBook();
+    }
+}
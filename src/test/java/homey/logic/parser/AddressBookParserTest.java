@@ -25,9 +25,11 @@ import homey.logic.commands.FindCommand;
 import homey.logic.commands.HelpCommand;
 import homey.logic.commands.ListCommand;
 import homey.logic.commands.ListMeetingCommand;
+import homey.logic.commands.RedoCommand;
 import homey.logic.commands.RelationCommand;
 import homey.logic.commands.TransactionStageCommand;
 import homey.logic.commands.UnarchiveCommand;
+import homey.logic.commands.UndoCommand;
 import homey.logic.parser.exceptions.ParseException;
 import homey.model.person.NameContainsKeywordsPredicate;
 import homey.model.person.Person;
@@ -78,6 +80,12 @@ public class AddressBookParserTest {
         assertEquals(new RelationCommand(INDEX_FIRST_PERSON, relation), command);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
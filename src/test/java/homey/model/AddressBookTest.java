@@ -43,6 +43,18 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesIdentities() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        assertTrue(addressBook.hasPerson(ALICE));
+
+        // Changes to the copy should not affect the original
+        addressBook.removePerson(ALICE);
+        assertFalse(addressBook.hasPerson(ALICE));
+        assertTrue(newData.hasPerson(ALICE));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -103,6 +115,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,68 @@
+package homey.model;
+
+import static homey.testutil.Assert.assertThrows;
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import homey.model.person.Person;
+import homey.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    @Test
+    public void constructor_typicalAddressBook_holdsSamePersons() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(typicalAddressBook);
+        assertEquals(typicalAddressBook.getPersonList().size(), columnarAddressBook.size());
+        assertEquals(typicalAddressBook.getPersonList(), columnarAddressBook.getPersonList());
+        assertEquals(typicalAddressBook, new AddressBook(columnarAddressBook));
+    }
+
+    @Test
+    public void getPerson_keepsMeetingArchiveStatusAndRemark() {
+        Person withMeeting = new PersonBuilder(ALICE).withMeeting("2030-01-02 10:30").withRemark("Likes condos")
+                .build();
+        Person archived = BENSON.archived();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(withMeeting, archived));
+
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(addressBook);
+        Person readWithMeeting = columnarAddressBook.getPerson(0);
+        assertEquals(withMeeting, readWithMeeting);
+        assertEquals(withMeeting.getMeeting(), readWithMeeting.getMeeting());
+        assertFalse(readWithMeeting.isArchived());
+        assertEquals(archived, columnarAddressBook.getPerson(1));
+        assertTrue(columnarAddressBook.getPerson(1).isArchived());
+    }
+
+    @Test
+    public void getFullNameAndAddressValue_readColumns() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertEquals(ALICE.getName().fullName, columnarAddressBook.getFullName(0));
+        assertEquals(ALICE.getAddress().value, columnarAddressBook.getAddressValue(0));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> columnarAddressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void equals() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertTrue(columnarAddressBook.equals(columnarAddressBook));
+        assertTrue(columnarAddressBook.equals(new ColumnarAddressBook(getTypicalAddressBook())));
+        assertFalse(columnarAddressBook.equals(new ColumnarAddressBook(new AddressBook())));
+        assertFalse(columnarAddressBook.equals(getTypicalAddressBook()));
+        assertFalse(columnarAddressBook.equals(null));
+    }
+}
@@ -4,6 +4,7 @@ import static homey.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static homey.testutil.Assert.assertThrows;
 import static homey.testutil.TypicalPersons.ALICE;
 import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -18,6 +19,7 @@ import homey.commons.core.GuiSettings;
 import homey.model.person.Meeting;
 import homey.model.person.NameContainsKeywordsPredicate;
 import homey.model.person.Person;
+import homey.model.person.TagContainsKeywordsPredicate;
 import homey.testutil.AddressBookBuilder;
 import homey.testutil.PersonBuilder;
 
@@ -109,6 +111,42 @@ public class ModelManagerTest {
         assertFalse(Meeting.isOverdueMeeting(personWithFutureMeeting.getMeeting().get()));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_followsLaterChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new TagContainsKeywordsPredicate(Arrays.asList("money")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags("friends").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_archiveStatus_followsArchiving() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        Person archivedBenson = BENSON.archived();
+        modelManager.setPerson(BENSON, archivedBenson);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_ARCHIVED_PERSONS);
+        assertEquals(Arrays.asList(archivedBenson), modelManager.getFilteredPersonList());
+        modelManager.setPerson(ALICE, ALICE.archived());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Carl")));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_ACTIVE_PERSONS);
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
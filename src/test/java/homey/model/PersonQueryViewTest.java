@@ -0,0 +1,92 @@
+package homey.model;
+
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import homey.model.person.HasActiveMeetingPredicate;
+import homey.model.person.NameContainsKeywordsPredicate;
+import homey.model.person.Person;
+import homey.model.person.TagContainsKeywordsPredicate;
+import homey.testutil.PersonBuilder;
+
+public class PersonQueryViewTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final PersonQueryView queryView = new PersonQueryView(addressBook, Model.PREDICATE_SHOW_ACTIVE_PERSONS);
+
+    @Test
+    public void setQuery_equalQuery_keepsCurrentQuery() {
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Alice"));
+        queryView.setQuery(query);
+        queryView.setQuery(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertSame(query, queryView.getQuery());
+    }
+
+    @Test
+    public void setQuery_equalQueryAfterChange_filtersAgain() {
+        addressBook.addPerson(ALICE);
+        NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Alice"));
+        queryView.setQuery(query);
+
+        addressBook.addPerson(BENSON);
+        NameContainsKeywordsPredicate sameQuery = new NameContainsKeywordsPredicate(List.of("Alice"));
+        queryView.setQuery(sameQuery);
+        assertSame(sameQuery, queryView.getQuery());
+        assertEquals(List.of(ALICE), queryView.getPersons());
+    }
+
+    @Test
+    public void setQuery_differentQuery_filtersAgain() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        queryView.setQuery(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(List.of(ALICE), queryView.getPersons());
+
+        queryView.setQuery(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(BENSON), queryView.getPersons());
+    }
+
+    @Test
+    public void addressBookChange_unchangedQuery_followsChange() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        TagContainsKeywordsPredicate query = new TagContainsKeywordsPredicate(Arrays.asList("money"));
+        queryView.setQuery(query);
+        assertEquals(List.of(BENSON), queryView.getPersons());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        Person taggedCarl = new PersonBuilder(CARL).withTags("money").build();
+        addressBook.addPerson(taggedCarl);
+        addressBook.removePerson(BENSON);
+        queryView.setQuery(new TagContainsKeywordsPredicate(Arrays.asList("money")));
+        assertEquals(List.of(editedAlice, taggedCarl), queryView.getPersons());
+    }
+
+    @Test
+    public void setQuery_activeMeetings_showsMeetingOrderAndFollowsChanges() {
+        Person aliceMeeting = new PersonBuilder(ALICE).withMeeting("2030-01-02 10:00").build();
+        Person bensonMeeting = new PersonBuilder(BENSON).withMeeting("2030-01-01 09:00").build();
+        addressBook.addPerson(aliceMeeting);
+        addressBook.addPerson(bensonMeeting);
+        addressBook.addPerson(CARL);
+        queryView.setQuery(new HasActiveMeetingPredicate());
+        assertEquals(List.of(bensonMeeting, aliceMeeting), queryView.getPersons());
+
+        Person carlMeeting = new PersonBuilder(CARL).withMeeting("2030-01-01 12:00").build();
+        addressBook.setPerson(CARL, carlMeeting);
+        addressBook.setPerson(bensonMeeting, bensonMeeting.archived());
+        assertEquals(List.of(carlMeeting, aliceMeeting), queryView.getPersons());
+
+        addressBook.setPersons(List.of(aliceMeeting, bensonMeeting));
+        assertEquals(List.of(bensonMeeting, aliceMeeting), queryView.getPersons());
+    }
+}
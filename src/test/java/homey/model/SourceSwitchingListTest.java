@@ -0,0 +1,55 @@
+package homey.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SourceSwitchingListTest {
+
+    private final ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> second = FXCollections.observableArrayList("c");
+    private final SourceSwitchingList<String> list = new SourceSwitchingList<>(first);
+
+    @Test
+    public void setSource_newSource_showsNewSourceAndNotifies() {
+        List<String> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        list.setSource(second);
+        assertSame(second, list.getSource());
+        assertEquals(List.of("c"), list);
+        assertEquals(List.of("a", "b"), removed);
+    }
+
+    @Test
+    public void sourceChange_currentSource_forwarded() {
+        List<String> added = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        first.add("d");
+        assertEquals(List.of("a", "b", "d"), list);
+        assertEquals(List.of("d"), added.subList(added.size() - 1, added.size()));
+
+        // changes to a list that is no longer shown are not forwarded
+        list.setSource(second);
+        added.clear();
+        first.add("e");
+        assertEquals(List.of(), added);
+    }
+}
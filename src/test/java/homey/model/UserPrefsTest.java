@@ -12,10 +12,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPref.setGuiSettings(null));
     }
 
+    @Test
+    public void setUndoHistoryLimit_negativeLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(-1));
+    }
+
     @Test
     public void setAddressBookFilePath_nullPath_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
 }
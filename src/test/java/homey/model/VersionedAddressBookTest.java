@@ -0,0 +1,149 @@
+package homey.model;
+
+import static homey.testutil.Assert.assertThrows;
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.CARL;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import homey.model.person.Person;
+import homey.testutil.AddressBookBuilder;
+import homey.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook addressBook = new VersionedAddressBook(
+            new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build(), 10);
+
+    @Test
+    public void constructor_newAddressBook_cannotUndoOrRedo() {
+        assertFalse(addressBook.canUndo());
+        assertFalse(addressBook.canRedo());
+        assertThrows(IllegalStateException.class, addressBook::undo);
+        assertThrows(IllegalStateException.class, addressBook::redo);
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_notVisible() {
+        addressBook.removePerson(BENSON);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        addressBook.undo();
+        assertEquals(List.of(ALICE, CARL), snapshot.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void commit_noChanges_doesNotAddState() {
+        addressBook.commit();
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_personLevelChanges_restoresPersonsInOrder() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.commit();
+        addressBook.removePerson(BENSON);
+        addressBook.commit();
+        Person daniel = new PersonBuilder().withName("Daniel Tan").build();
+        addressBook.addPerson(daniel);
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(List.of(editedAlice, CARL), addressBook.getPersonList());
+        addressBook.undo();
+        assertEquals(List.of(editedAlice, BENSON, CARL), addressBook.getPersonList());
+        assertEquals(List.of(editedAlice, BENSON, CARL), addressBook.getActivePersonList());
+        addressBook.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+        assertFalse(addressBook.canUndo());
+
+        addressBook.redo();
+        addressBook.redo();
+        addressBook.redo();
+        assertEquals(List.of(editedAlice, CARL, daniel), addressBook.getPersonList());
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_bulkChange_restoresFromSnapshot() {
+        addressBook.resetData(new AddressBook());
+        addressBook.commit();
+        assertEquals(List.of(), addressBook.getPersonList());
+
+        addressBook.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+        addressBook.redo();
+        assertEquals(List.of(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneStates() {
+        addressBook.removePerson(ALICE);
+        addressBook.commit();
+        addressBook.undo();
+        addressBook.removePerson(CARL);
+        addressBook.commit();
+
+        assertFalse(addressBook.canRedo());
+        addressBook.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_beyondHistoryLimit_dropsOldestState() {
+        VersionedAddressBook limited = new VersionedAddressBook(getTypicalAddressBook(), 2);
+        int size = limited.getPersonList().size();
+        for (int i = 0; i < 3; i++) {
+            limited.removePerson(limited.getPersonList().get(0));
+            limited.commit();
+        }
+
+        limited.undo();
+        limited.undo();
+        assertFalse(limited.canUndo());
+        assertEquals(size - 1, limited.getPersonList().size());
+    }
+
+    @Test
+    public void commit_beyondHistoryPersonLimit_dropsOldestStates() {
+        VersionedAddressBook limited = new VersionedAddressBook(getTypicalAddressBook(), 100, 3);
+        int size = limited.getPersonList().size();
+        for (int i = 0; i < 3; i++) {
+            limited.removePerson(limited.getPersonList().get(0));
+            limited.commit();
+        }
+        limited.undo();
+        limited.undo();
+        limited.undo();
+        assertEquals(size, limited.getPersonList().size());
+
+        // restoring the whole address book keeps a copy of every person, which exceeds the limit on its own
+        limited.setPersons(getTypicalAddressBook().getPersonList());
+        limited.commit();
+        limited.removePerson(limited.getPersonList().get(0));
+        limited.commit();
+        limited.undo();
+        assertFalse(limited.canUndo());
+    }
+
+    @Test
+    public void commit_singleStateBeyondHistoryPersonLimit_stillUndoable() {
+        VersionedAddressBook limited = new VersionedAddressBook(new AddressBook(), 100, 0);
+        limited.resetData(getTypicalAddressBook());
+        limited.commit();
+        assertTrue(limited.canUndo());
+        limited.undo();
+        assertTrue(limited.getPersonList().isEmpty());
+    }
+}
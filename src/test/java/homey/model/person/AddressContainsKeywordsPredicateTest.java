@@ -6,11 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import homey.model.tag.Relation;
 import homey.model.tag.TransactionStage;
+import homey.testutil.PersonBuilder;
 
 public class AddressContainsKeywordsPredicateTest {
 
@@ -47,6 +49,17 @@ public class AddressContainsKeywordsPredicateTest {
         assertTrue(p.test(personWith("bedok reservoir view")));
     }
 
+    @Test
+    public void test_accentsAndSpacing_ignored() {
+        AddressContainsKeywordsPredicate p =
+                new AddressContainsKeywordsPredicate(Collections.singletonList("Rue Émile  Zola"), true);
+        assertTrue(p.test(personWith("12 rue emile zola")));
+        assertTrue(p.test(personWith("12 Rue  Émile\tZola")));
+
+        p = new AddressContainsKeywordsPredicate(Collections.singletonList("emile"));
+        assertTrue(p.test(personWith("12 Rue Émile Zola")));
+    }
+
     @Test
     public void test_noMatch_returnsFalse() {
         AddressContainsKeywordsPredicate p =
@@ -66,5 +79,27 @@ public class AddressContainsKeywordsPredicateTest {
         assertEquals(a.hashCode(), b.hashCode());
         assertFalse(a.equals(c));
     }
-}
 
+    @Test
+    public void resolve_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withName("Alice").withAddress("Blk 123 Bedok North Ave 3").build());
+        persons.add(new PersonBuilder().withName("Benson").withAddress("10 Bedok  North Road").build());
+        persons.add(new PersonBuilder().withName("Carl").withAddress("5 Tampines North Dr").build());
+        persons.add(new PersonBuilder().withName("Daniel").withAddress("Clementi Ave 2, #01-02").build());
+
+        for (List<String> keywords : List.of(List.of("bedok"), List.of("NORTH", "clem"), List.of("#01"),
+                List.of("xyz"), List.of(""))) {
+            AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(keywords);
+            List<Person> expected = persons.asUnmodifiableObservableList().filtered(predicate);
+            assertEquals(expected, persons.find(predicate));
+        }
+
+        for (String phrase : List.of("bedok north", "Bedok  North", "dok north av", "123 bedok north ave 3",
+                "north", "ave 2, #01", "north road x", " north", "")) {
+            AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(List.of(phrase), true);
+            List<Person> expected = persons.asUnmodifiableObservableList().filtered(predicate);
+            assertEquals(expected, persons.find(predicate), phrase);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package homey.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import homey.testutil.PersonBuilder;
+
+public class AddressIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice")
+            .withAddress("Blk 123 Bedok North Ave 3").build();
+    private static final Person BENSON = new PersonBuilder().withName("Benson")
+            .withAddress("Bedok Reservoir Road, North Wing").build();
+
+    private final AddressIndex addressIndex = new AddressIndex();
+
+    @Test
+    public void find_keyword_returnsPartialMatches() {
+        addressIndex.add(ALICE);
+        addressIndex.add(BENSON);
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()), addressIndex.find(List.of("edo")));
+        assertEquals(Set.of(BENSON.getName()), addressIndex.find(List.of("road,")));
+        assertEquals(Set.of(ALICE.getName()), addressIndex.find(List.of("", "123")));
+        assertEquals(Set.of(BENSON.getName()), addressIndex.find(List.of("servoi")));
+        assertTrue(addressIndex.find(List.of("bedoka")).isEmpty());
+    }
+
+    @Test
+    public void find_phrase_requiresAdjacentWords() {
+        addressIndex.add(ALICE);
+        addressIndex.add(BENSON);
+
+        // both addresses contain "bedok" and "north", but only ALICE has them next to each other
+        assertEquals(Set.of(ALICE.getName()), addressIndex.find(List.of("bedok north")));
+        assertEquals(Set.of(ALICE.getName()), addressIndex.find(List.of("dok nor")));
+        assertEquals(Set.of(BENSON.getName()), addressIndex.find(List.of("road, north wing")));
+        assertTrue(addressIndex.find(List.of("north bedok")).isEmpty());
+    }
+
+    @Test
+    public void find_phraseWithDifferentSpacing_doesNotMatch() {
+        addressIndex.add(ALICE);
+        assertTrue(addressIndex.find(List.of("bedok  north")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        addressIndex.add(ALICE);
+        addressIndex.add(BENSON);
+        addressIndex.remove(ALICE);
+        assertEquals(Set.of(BENSON.getName()), addressIndex.find(List.of("bedok")));
+        assertTrue(addressIndex.find(List.of("bedok north")).isEmpty());
+        assertTrue(addressIndex.find(List.of("12")).isEmpty());
+        assertTrue(addressIndex.find(List.of("k 1")).isEmpty());
+
+        addressIndex.clear();
+        assertTrue(addressIndex.find(List.of("bedok")).isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package homey.model.person;
+
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ArchiveStatusPredicateTest {
+
+    @Test
+    public void equals() {
+        ArchiveStatusPredicate archivedPredicate = new ArchiveStatusPredicate(true);
+
+        // same object -> returns true
+        assertTrue(archivedPredicate.equals(archivedPredicate));
+
+        // same values -> returns true
+        assertTrue(archivedPredicate.equals(new ArchiveStatusPredicate(true)));
+
+        // different types -> returns false
+        assertFalse(archivedPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(archivedPredicate.equals(null));
+
+        // different status -> returns false
+        assertFalse(archivedPredicate.equals(new ArchiveStatusPredicate(false)));
+    }
+
+    @Test
+    public void test() {
+        assertTrue(new ArchiveStatusPredicate(true).test(ALICE.archived()));
+        assertFalse(new ArchiveStatusPredicate(true).test(ALICE));
+        assertTrue(new ArchiveStatusPredicate(false).test(ALICE));
+        assertFalse(new ArchiveStatusPredicate(false).test(ALICE.archived()));
+    }
+
+    @Test
+    public void resolve_afterChanges_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.add(BENSON.archived());
+        persons.add(CARL);
+        assertEquals(List.of(BENSON.archived()), persons.find(new ArchiveStatusPredicate(true)));
+
+        persons.setPerson(CARL, CARL.archived());
+        persons.remove(BENSON.archived());
+        assertEquals(List.of(CARL.archived()), persons.find(new ArchiveStatusPredicate(true)));
+        assertEquals(List.of(ALICE), persons.find(new ArchiveStatusPredicate(false)));
+    }
+
+    @Test
+    public void and_indexedPredicate_intersectsMatches() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.add(BENSON.archived());
+        persons.add(CARL);
+
+        // ALICE and BENSON are tagged "friends"
+        IndexedPredicate predicate = new ArchiveStatusPredicate(false)
+                .and(new TagContainsKeywordsPredicate(List.of("friend")));
+        assertEquals(List.of(ALICE), persons.find(predicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = ArchiveStatusPredicate.class.getCanonicalName() + "{isArchived=true}";
+        assertEquals(expected, new ArchiveStatusPredicate(true).toString());
+    }
+}
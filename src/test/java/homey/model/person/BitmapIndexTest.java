@@ -0,0 +1,108 @@
+package homey.model.person;
+
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class BitmapIndexTest {
+
+    private final BitmapIndex<Boolean> archiveIndex = new BitmapIndex<>(Person::isArchived);
+
+    @Test
+    public void get_afterAddAndRemove_returnsCurrentSlots() {
+        archiveIndex.add(0, ALICE);
+        archiveIndex.add(1, BENSON.archived());
+        archiveIndex.add(2, CARL);
+        assertEquals(bits(0, 2), archiveIndex.get(false));
+        assertEquals(bits(1), archiveIndex.get(true));
+
+        archiveIndex.remove(2, CARL);
+        assertEquals(bits(0), archiveIndex.get(false));
+    }
+
+    @Test
+    public void get_unknownKey_returnsEmptyBitSet() {
+        assertTrue(archiveIndex.get(true).isEmpty());
+    }
+
+    @Test
+    public void get_modifyResult_doesNotAffectIndex() {
+        archiveIndex.add(0, ALICE);
+        archiveIndex.get(false).clear();
+        assertEquals(bits(0), archiveIndex.get(false));
+    }
+
+    @Test
+    public void shiftDown_movesLaterSlotsDown() {
+        archiveIndex.add(0, ALICE);
+        archiveIndex.add(2, CARL);
+        archiveIndex.add(3, BENSON.archived());
+        archiveIndex.shiftDown(1);
+        assertEquals(bits(0, 1), archiveIndex.get(false));
+        assertEquals(bits(2), archiveIndex.get(true));
+    }
+
+    @Test
+    public void removeBit_acrossWordBoundaries_shiftsHigherBits() {
+        assertEquals(bits(0, 62, 63, 127, 199), removeBit(bits(0, 5, 63, 64, 128, 200), 5));
+        assertEquals(bits(63, 64), removeBit(bits(64, 65), 0));
+        assertEquals(bits(63), removeBit(bits(63, 64), 63));
+    }
+
+    @Test
+    public void removeBit_beyondLastBit_returnsSameBits() {
+        assertEquals(bits(1, 3), removeBit(bits(1, 3), 64));
+        assertEquals(bits(1, 3), removeBit(bits(1, 3), 10));
+    }
+
+    @Test
+    public void insertBit_acrossWordBoundaries_shiftsHigherBits() {
+        assertEquals(bits(0, 6, 64, 65, 129, 201), insertBit(bits(0, 5, 63, 64, 128, 200), 5));
+        assertEquals(bits(64, 65), insertBit(bits(63, 64), 0));
+        assertEquals(bits(62, 64), insertBit(bits(62, 63), 63));
+        assertEquals(bits(1, 3), insertBit(bits(1, 3), 64));
+    }
+
+    @Test
+    public void countBefore_acrossWordBoundaries_countsEarlierSlots() {
+        for (int slot : new int[] {0, 3, 63, 64, 70, 130}) {
+            archiveIndex.add(slot, ALICE);
+        }
+        assertEquals(0, archiveIndex.countBefore(false, 0));
+        assertEquals(1, archiveIndex.countBefore(false, 1));
+        assertEquals(2, archiveIndex.countBefore(false, 63));
+        assertEquals(3, archiveIndex.countBefore(false, 64));
+        assertEquals(5, archiveIndex.countBefore(false, 128));
+        assertEquals(6, archiveIndex.countBefore(false, 1000));
+        assertEquals(0, archiveIndex.countBefore(true, 1000));
+    }
+
+    @Test
+    public void shiftUp_highestBitOfLastWord_growsBitmap() {
+        archiveIndex.add(63, ALICE);
+        archiveIndex.shiftUp(0);
+        assertEquals(bits(64), archiveIndex.get(false));
+    }
+
+    private static BitSet removeBit(BitSet bits, int index) {
+        return BitSet.valueOf(BitmapIndex.removeBit(bits.toLongArray(), index));
+    }
+
+    private static BitSet insertBit(BitSet bits, int index) {
+        return BitSet.valueOf(BitmapIndex.insertBit(bits.toLongArray(), index));
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
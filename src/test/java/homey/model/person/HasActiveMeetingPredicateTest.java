@@ -0,0 +1,52 @@
+package homey.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import homey.testutil.PersonBuilder;
+
+public class HasActiveMeetingPredicateTest {
+
+    private final HasActiveMeetingPredicate predicate = new HasActiveMeetingPredicate();
+
+    @Test
+    public void equals() {
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new HasActiveMeetingPredicate()));
+        assertFalse(predicate.equals(1));
+        assertFalse(predicate.equals(null));
+    }
+
+    @Test
+    public void test() {
+        Person withMeeting = new PersonBuilder().withMeeting("2030-01-01 09:00").build();
+        assertTrue(predicate.test(withMeeting));
+        assertFalse(predicate.test(withMeeting.archived()));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void resolve_afterChanges_agreesWithTest() {
+        Person alice = new PersonBuilder().withName("Alice").withMeeting("2030-01-02 10:00").build();
+        Person benson = new PersonBuilder().withName("Benson").build();
+        Person carl = new PersonBuilder().withName("Carl").withMeeting("2030-01-01 09:00").build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(alice);
+        persons.add(benson);
+        persons.add(carl);
+        assertEquals(List.of(alice, carl), persons.find(predicate));
+
+        Person bensonWithMeeting = new PersonBuilder(benson).withMeeting("2030-01-03 09:00").build();
+        persons.setPerson(benson, bensonWithMeeting);
+        persons.setPerson(alice, alice.archived());
+        assertEquals(List.of(bensonWithMeeting, carl), persons.find(predicate));
+
+        persons.remove(bensonWithMeeting);
+        assertEquals(List.of(carl), persons.find(predicate));
+    }
+}
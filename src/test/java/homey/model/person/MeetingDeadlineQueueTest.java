@@ -0,0 +1,58 @@
+package homey.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import homey.testutil.PersonBuilder;
+
+public class MeetingDeadlineQueueTest {
+
+    private final MeetingDeadlineQueue meetingDeadlines = new MeetingDeadlineQueue();
+
+    @Test
+    public void peekDeadline_returnsEarliestPendingMeeting() {
+        assertEquals(Optional.empty(), meetingDeadlines.peekDeadline());
+        meetingDeadlines.add(new PersonBuilder().withName("Alice").withMeeting("3000-01-02 10:00").build());
+        meetingDeadlines.add(new PersonBuilder().withName("Bob").withMeeting("3000-01-01 09:00").build());
+        meetingDeadlines.add(new PersonBuilder().withName("Carl").build());
+        assertEquals(Optional.of(LocalDateTime.of(3000, 1, 1, 9, 0)), meetingDeadlines.peekDeadline());
+    }
+
+    @Test
+    public void add_overdueMeeting_notQueued() {
+        meetingDeadlines.add(new PersonBuilder().withMeeting("2020-01-01 09:00").build());
+        assertEquals(Optional.empty(), meetingDeadlines.peekDeadline());
+    }
+
+    @Test
+    public void pollPassed_marksOnlyPassedMeetingsOverdue() {
+        Person alice = new PersonBuilder().withName("Alice").withMeeting("3000-01-02 10:00").build();
+        Person bob = new PersonBuilder().withName("Bob").withMeeting("3000-01-01 09:00").build();
+        meetingDeadlines.add(alice);
+        meetingDeadlines.add(bob);
+
+        // a meeting only becomes overdue after its time
+        assertTrue(meetingDeadlines.pollPassed(LocalDateTime.of(3000, 1, 1, 9, 0)).isEmpty());
+
+        assertEquals(List.of(bob), meetingDeadlines.pollPassed(LocalDateTime.of(3000, 1, 1, 9, 1)));
+        assertTrue(Meeting.isOverdueMeeting(bob.getMeeting().get()));
+        assertFalse(Meeting.isOverdueMeeting(alice.getMeeting().get()));
+        assertEquals(Optional.of(LocalDateTime.of(3000, 1, 2, 10, 0)), meetingDeadlines.peekDeadline());
+    }
+
+    @Test
+    public void remove_person_noLongerPolled() {
+        Person alice = new PersonBuilder().withName("Alice").withMeeting("3000-01-02 10:00").build();
+        meetingDeadlines.add(alice);
+        meetingDeadlines.remove(alice);
+        assertTrue(meetingDeadlines.pollPassed(LocalDateTime.of(3001, 1, 1, 0, 0)).isEmpty());
+        assertFalse(Meeting.isOverdueMeeting(alice.getMeeting().get()));
+    }
+}
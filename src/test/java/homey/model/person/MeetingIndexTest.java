@@ -0,0 +1,53 @@
+package homey.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import homey.testutil.PersonBuilder;
+
+public class MeetingIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").withMeeting("2030-01-02 10:00").build();
+    private static final Person BOB = new PersonBuilder().withName("bob").withMeeting("2030-01-01 09:00").build();
+    private static final Person CARL = new PersonBuilder().withName("Carl").withMeeting("2030-01-01 09:00").build();
+    private static final Person DANIEL = new PersonBuilder().withName("Daniel").build();
+
+    private final MeetingIndex meetingIndex = new MeetingIndex();
+
+    @Test
+    public void inOrder_returnsEarliestMeetingFirstThenByName() {
+        meetingIndex.add(ALICE);
+        meetingIndex.add(CARL);
+        meetingIndex.add(BOB);
+        assertEquals(List.of(BOB, CARL, ALICE), meetingIndex.inOrder());
+    }
+
+    @Test
+    public void add_withoutMeetingOrArchived_notIndexed() {
+        meetingIndex.add(DANIEL);
+        meetingIndex.add(ALICE.archived());
+        assertTrue(meetingIndex.inOrder().isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerListed() {
+        meetingIndex.add(ALICE);
+        meetingIndex.add(BOB);
+        meetingIndex.remove(BOB);
+        assertEquals(List.of(ALICE), meetingIndex.inOrder());
+
+        meetingIndex.clear();
+        assertTrue(meetingIndex.inOrder().isEmpty());
+    }
+
+    @Test
+    public void setAll_persons_onlyIndexedInOrder() {
+        meetingIndex.add(DANIEL);
+        meetingIndex.setAll(List.of(ALICE, DANIEL, CARL.archived(), BOB));
+        assertEquals(List.of(BOB, ALICE), meetingIndex.inOrder());
+    }
+}
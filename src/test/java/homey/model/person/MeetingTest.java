@@ -32,6 +32,13 @@ class MeetingTest {
         assertFalse(Meeting.isValidMeeting("   "));
     }
 
+    @Test
+    void constructor_dateTime_secondsDropped() {
+        Meeting m = new Meeting(LocalDateTime.of(2025, 11, 3, 14, 0, 42));
+        assertEquals(new Meeting("2025-11-03 14:00"), m);
+        assertEquals("2025-11-03 14:00", m.toString());
+    }
+
     @Test
     void constructor_parsesToString_roundtrip() {
         String raw = "2025-11-03 14:00";
@@ -116,4 +116,20 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("", ""));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withName("Alice Pauline").build());
+        persons.add(new PersonBuilder().withName("Benson Meier").build());
+        persons.add(new PersonBuilder().withName("Carl Kurz").build());
+        persons.add(new PersonBuilder().withName("Daniel Meier").build());
+
+        for (List<String> keywords : List.of(List.of("MEIER"), List.of("a"), List.of("ur", "paul"),
+                List.of("eier", "xyz"), List.of("arl k"), List.of(""))) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            List<Person> expected = persons.asUnmodifiableObservableList().filtered(predicate);
+            assertEquals(expected, persons.find(predicate));
+        }
+    }
 }
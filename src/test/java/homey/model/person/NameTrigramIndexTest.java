@@ -0,0 +1,58 @@
+package homey.model.person;
+
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+
+    @Test
+    public void find_shortKeyword_returnsPartialMatches() {
+        // "Alice Pauline", "Benson Meier" and "Daniel Meier"
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        assertEquals(Set.of(ALICE.getName(), DANIEL.getName()), nameIndex.find(List.of("l")));
+        assertEquals(Set.of(BENSON.getName()), nameIndex.find(List.of("be")));
+        assertEquals(Set.of(BENSON.getName(), DANIEL.getName()), nameIndex.find(List.of("mei")));
+    }
+
+    @Test
+    public void find_longKeyword_verifiesCandidates() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        assertEquals(Set.of(BENSON.getName(), DANIEL.getName()), nameIndex.find(List.of("meier")));
+        assertEquals(Set.of(ALICE.getName()), nameIndex.find(List.of("ce pau")));
+
+        // both trigrams of "alin" occur in "Alice Pauline", but the keyword itself does not
+        assertTrue(nameIndex.find(List.of("alin")).isEmpty());
+    }
+
+    @Test
+    public void find_multipleKeywords_returnsUnion() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()), nameIndex.find(List.of("alice", "benson", "")));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        nameIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL.getName()), nameIndex.find(List.of("meier")));
+
+        nameIndex.clear();
+        assertTrue(nameIndex.find(List.of("meier")).isEmpty());
+    }
+}
@@ -12,6 +12,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import homey.testutil.PersonBuilder;
@@ -125,5 +127,23 @@ public class PersonTest {
         assertTrue(some.toString().contains("meeting="));
     }
 
-
+    @Test
+    public void lazyPerson_detailsReadFromLoaderOnAccess() {
+        AtomicInteger loads = new AtomicInteger();
+        ContactDetails details = ALICE.getDetails();
+        Person person = new Person(ALICE.getName(), ALICE.getRelation(), ALICE.getStage(), ALICE.getTags(),
+                ALICE.getMeeting(), () -> {
+                    loads.incrementAndGet();
+                    return details;
+                });
+        Person archived = person.archived().withId(ALICE.getId());
+        assertEquals(0, loads.get());
+
+        assertEquals(ALICE.getPhone(), person.getPhone());
+        assertEquals(ALICE.getAddress(), archived.getAddress());
+        assertEquals(2, loads.get());
+        assertEquals(ALICE, person);
+        assertEquals(ALICE.hashCode(), archived.hashCode());
+        assertEquals(ALICE.toString(), person.toString());
+    }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import homey.testutil.PersonBuilder;
@@ -96,4 +98,17 @@ public class RelationContainsKeywordPredicateTest {
         predicate = new RelationContainsKeywordPredicate(" vendor ");
         assertFalse(predicate.test(new PersonBuilder().withRelation("vendor").build()));
     }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withName("Alice").withRelation("client").build());
+        persons.add(new PersonBuilder().withName("Benson").withRelation("vendor").build());
+        persons.add(new PersonBuilder().withName("Carl").withRelation("client").build());
+
+        RelationContainsKeywordPredicate predicate = new RelationContainsKeywordPredicate("VENDOR");
+        List<Person> expected = persons.asUnmodifiableObservableList().filtered(predicate);
+        assertEquals(expected, persons.find(predicate));
+        assertEquals(List.of(), persons.find(new RelationContainsKeywordPredicate("")));
+    }
 }
@@ -2,6 +2,7 @@ package homey.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,4 +35,11 @@ public class RemarkTest {
         String longRemark = "a".repeat(101);
         assertThrows(IllegalArgumentException.class, () -> new Remark(longRemark));
     }
+
+    @Test
+    public void of_blankRemark_returnsEmpty() {
+        assertSame(Remark.EMPTY, Remark.of(""));
+        assertSame(Remark.EMPTY, Remark.of("   "));
+        assertEquals(new Remark("Hi"), Remark.of(" Hi "));
+    }
 }
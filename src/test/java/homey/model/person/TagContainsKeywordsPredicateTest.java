@@ -121,4 +121,37 @@ public class TagContainsKeywordsPredicateTest {
         predicate = new TagContainsKeywordsPredicate(Arrays.asList("friend", "colleague"));
         assertFalse(predicate.test(new PersonBuilder().build()));
     }
+
+    @Test
+    public void test_accentedKeyword_matchesUnaccentedTag() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Collections.singletonList("Écolé"));
+        assertTrue(predicate.test(new PersonBuilder().withTags("ecoleFriends").build()));
+    }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withName("Alice").withTags("friends").build());
+        persons.add(new PersonBuilder().withName("Benson").withTags("colleague").build());
+        persons.add(new PersonBuilder().withName("Carl").build());
+
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("FRIEND", "league"));
+        List<Person> expected = persons.asUnmodifiableObservableList().filtered(predicate);
+        assertEquals(expected, persons.find(predicate));
+    }
+
+    @Test
+    public void and_otherPredicate_resolvesOnlyPersonsSatisfyingBoth() {
+        UniquePersonList persons = new UniquePersonList();
+        Person alice = new PersonBuilder().withName("Alice").withTags("friends").build();
+        Person benson = new PersonBuilder().withName("Benson").withTags("friends").build().archived();
+        persons.add(alice);
+        persons.add(benson);
+
+        IndexedPredicate predicate = new TagContainsKeywordsPredicate(Collections.singletonList("friend"))
+                .and(person -> !person.isArchived());
+        assertEquals(List.of(alice), persons.find(predicate));
+        assertTrue(predicate.test(alice));
+        assertFalse(predicate.test(benson));
+    }
 }
@@ -0,0 +1,54 @@
+package homey.model.person;
+
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import homey.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void find_partialKeyword_returnsMatchingNames() {
+        // ALICE is tagged "friends", BENSON is tagged "owesMoney" and "friends"
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()), tagIndex.find(List.of("friend")));
+        assertEquals(Set.of(BENSON.getName()), tagIndex.find(List.of("money")));
+        assertEquals(Set.of(BENSON.getName()), tagIndex.find(List.of("owesmoney")));
+    }
+
+    @Test
+    public void find_multipleKeywords_returnsUnion() {
+        Person colleague = new PersonBuilder().withName("Carl").withTags("colleague").build();
+        tagIndex.add(ALICE);
+        tagIndex.add(colleague);
+        assertEquals(Set.of(ALICE.getName(), colleague.getName()), tagIndex.find(List.of("coll", "friends")));
+    }
+
+    @Test
+    public void find_emptyOrUnknownKeyword_returnsEmptySet() {
+        tagIndex.add(ALICE);
+        assertTrue(tagIndex.find(List.of("")).isEmpty());
+        assertTrue(tagIndex.find(List.of("enemy")).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerFound() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(ALICE);
+        assertEquals(Set.of(BENSON.getName()), tagIndex.find(List.of("friend")));
+
+        tagIndex.remove(BENSON);
+        assertTrue(tagIndex.find(List.of("friend")).isEmpty());
+    }
+}
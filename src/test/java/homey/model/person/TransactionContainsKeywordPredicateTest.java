@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import homey.testutil.PersonBuilder;
@@ -101,4 +103,17 @@ public class TransactionContainsKeywordPredicateTest {
         predicate = new TransactionContainsKeywordPredicate(" closed ");
         assertFalse(predicate.test(new PersonBuilder().withStage("closed").build()));
     }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withName("Alice").withStage("prospect").build());
+        persons.add(new PersonBuilder().withName("Benson").withStage("negotiating").build());
+        persons.add(new PersonBuilder().withName("Carl").withStage("prospect").build());
+
+        TransactionContainsKeywordPredicate predicate = new TransactionContainsKeywordPredicate("NEGOTIATING");
+        List<Person> expected = persons.asUnmodifiableObservableList().filtered(predicate);
+        assertEquals(expected, persons.find(predicate));
+        assertEquals(List.of(), persons.find(new TransactionContainsKeywordPredicate("")));
+    }
 }
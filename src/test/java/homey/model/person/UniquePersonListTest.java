@@ -5,19 +5,25 @@ import static homey.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static homey.testutil.Assert.assertThrows;
 import static homey.testutil.TypicalPersons.ALICE;
 import static homey.testutil.TypicalPersons.BOB;
+import static homey.testutil.TypicalPersons.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import homey.model.person.exceptions.DuplicatePersonException;
 import homey.model.person.exceptions.PersonNotFoundException;
 import homey.testutil.PersonBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniquePersonListTest {
 
@@ -47,6 +53,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +71,20 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_atIndex_insertsAndKeepsIndexes() {
+        Person archivedBob = BOB.archived();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(1, archivedBob);
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, uniquePersonList.indexOf(archivedBob));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.asUnmodifiableActiveObservableList());
+        assertEquals(List.of(archivedBob), uniquePersonList.find(new ArchiveStatusPredicate(true)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(0, ALICE));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -102,6 +129,21 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +169,19 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND)
+                .build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +217,150 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsOriginalList() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findByTagKeywords_afterChanges_followsCurrentTags() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<String> keywords = Collections.singletonList("husb");
+        assertEquals(List.of(BOB), uniquePersonList.find(new TagContainsKeywordsPredicate(keywords)));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BOB), uniquePersonList.find(new TagContainsKeywordsPredicate(keywords)));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(1, uniquePersonList.findByTagKeywords(keywords).cardinality());
+        assertTrue(uniquePersonList.findByTagKeywords(keywords).get(0));
+    }
+
+    @Test
+    public void findByAddressKeywords_changesBeforeAndAfterFirstSearch_followsCurrentAddresses() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(BOB);
+        assertEquals(List.of(ALICE), uniquePersonList.find(
+                new AddressContainsKeywordsPredicate(Collections.singletonList("jurong"))));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.add(BOB);
+        List<String> keywords = Collections.singletonList("bobby");
+        assertEquals(List.of(editedAlice, BOB), uniquePersonList.find(new AddressContainsKeywordsPredicate(keywords)));
+        assertTrue(uniquePersonList.findByAddressKeywords(Collections.singletonList("jurong")).isEmpty());
+    }
+
+    @Test
+    public void updateOverdueMeetings_passedMeeting_notifiesOnlyAffectedPerson() {
+        Person alice = new PersonBuilder(ALICE).withMeeting("3000-01-01 09:00").build();
+        Person bob = new PersonBuilder(BOB).withMeeting("3000-06-01 09:00").build();
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        List<Person> replaced = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                replaced.addAll(change.getAddedSubList());
+            }
+        });
+        List<Person> replacedActive = new ArrayList<>();
+        uniquePersonList.asUnmodifiableActiveObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                replacedActive.addAll(change.getAddedSubList());
+            }
+        });
+
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.updateOverdueMeetings(LocalDateTime.of(3000, 1, 1, 10, 0));
+        assertNotEquals(version, uniquePersonList.getVersion());
+        assertEquals(List.of(alice), replaced);
+        assertEquals(List.of(alice), replacedActive);
+        assertTrue(Meeting.isOverdueMeeting(alice.getMeeting().get()));
+        assertEquals(Optional.of(LocalDateTime.of(3000, 6, 1, 9, 0)), uniquePersonList.getNextMeetingDeadline());
+    }
+
+    @Test
+    public void partitions_afterChanges_keepListOrder() {
+        Person archivedBob = BOB.archived();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(archivedBob);
+        uniquePersonList.add(CARL);
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.asUnmodifiableActiveObservableList());
+        assertEquals(List.of(archivedBob), uniquePersonList.asUnmodifiableArchivedObservableList());
+
+        // archiving and unarchiving move a person to its place in the other partition
+        Person archivedCarl = CARL.archived();
+        uniquePersonList.setPerson(CARL, archivedCarl);
+        uniquePersonList.setPerson(archivedBob, BOB);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableActiveObservableList());
+        assertEquals(List.of(archivedCarl), uniquePersonList.asUnmodifiableArchivedObservableList());
+        assertTrue(uniquePersonList.asUnmodifiableArchivedObservableList().get(0).isArchived());
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+        assertEquals(List.of(editedAlice), uniquePersonList.asUnmodifiableActiveObservableList());
+        assertEquals(VALID_ADDRESS_BOB,
+                uniquePersonList.asUnmodifiableActiveObservableList().get(0).getAddress().value);
+
+        uniquePersonList.setPersons(List.of(BOB.archived(), ALICE));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableActiveObservableList());
+        assertEquals(1, uniquePersonList.asUnmodifiableArchivedObservableList().size());
+    }
+
+    @Test
+    public void setPerson_editedPersonKeepsId_laterEditsFindIt() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = ALICE.archived();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertEquals(ALICE.getId(), storedAlice.getId());
+        uniquePersonList.setPerson(storedAlice, BOB);
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getVersion_afterChange_changes() {
+        long initialVersion = uniquePersonList.getVersion();
+        uniquePersonList.add(ALICE);
+        assertNotEquals(initialVersion, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void getVersion_duringChangeNotification_alreadyChanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<Long> notifiedVersions = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                notifiedVersions.add(uniquePersonList.getVersion()));
+
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.setPerson(ALICE, ALICE.archived());
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(CARL);
+        assertEquals(3, notifiedVersions.size());
+        assertTrue(notifiedVersions.stream().noneMatch(notified -> notified == version));
+        assertEquals(uniquePersonList.getVersion(), (long) notifiedVersions.get(2));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,26 @@
+package homey.model.tag;
+
+import static homey.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class RelationTest {
+
+    @Test
+    public void constructor_invalidRelation_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Relation("friend"));
+    }
+
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        assertSame(Relation.of("vendor"), Relation.of("vendor"));
+        assertEquals(new Relation("vendor"), Relation.of("vendor"));
+    }
+
+    @Test
+    public void of_invalidRelation_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Relation.of("friend"));
+    }
+}
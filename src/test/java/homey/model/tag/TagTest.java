@@ -1,6 +1,8 @@
 package homey.model.tag;
 
 import static homey.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +25,14 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertEquals(new Tag("friends"), Tag.of("friends"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
 }
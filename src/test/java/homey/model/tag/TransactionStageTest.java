@@ -1,6 +1,7 @@
 package homey.model.tag;
 
 import static homey.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -46,4 +47,10 @@ public class TransactionStageTest {
         assertTrue(TransactionStage.isValid("Closed"));
         assertTrue(TransactionStage.isValid("PrOsPeCt"));
     }
+
+    @Test
+    public void of_sameNormalisedName_returnsSameInstance() {
+        assertSame(TransactionStage.of("closed"), TransactionStage.of(" CLOSED "));
+        assertThrows(IllegalArgumentException.class, () -> TransactionStage.of("sold"));
+    }
 }
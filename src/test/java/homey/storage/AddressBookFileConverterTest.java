@@ -0,0 +1,107 @@
+package homey.storage;
+
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.HOON;
+import static homey.testutil.TypicalPersons.IDA;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import homey.model.AddressBook;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "homey.bin"), AddressBookFileConverter.getBinaryFilePath(
+                Paths.get("data", "homey.json")));
+        assertEquals(Paths.get("data", "homey.dat.bin"), AddressBookFileConverter.getBinaryFilePath(
+                Paths.get("data", "homey.dat")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_samePersons() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage jsonStorage = new JournalAddressBookStorage(testFolder.resolve("homey.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("homey.bin"));
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        JsonAddressBookStorage backStorage = new JsonAddressBookStorage(testFolder.resolve("back.json"));
+        assertTrue(AddressBookFileConverter.convert(binaryStorage, backStorage));
+        assertEquals(original, new AddressBook(backStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_nothingWritten() throws Exception {
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("homey.bin"));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("homey.json"));
+
+        assertFalse(AddressBookFileConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(binaryStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void convertIfMissing_targetExists_targetKept() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("homey.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("homey.bin"));
+        jsonStorage.saveAddressBook(original);
+        assertTrue(AddressBookFileConverter.convertIfMissing(jsonStorage, binaryStorage));
+
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+        assertFalse(AddressBookFileConverter.convertIfMissing(jsonStorage, binaryStorage));
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfMissing_switchBackAndForth_latestChangesKept() throws Exception {
+        Path jsonPath = testFolder.resolve("homey.json");
+        Path binaryPath = testFolder.resolve("homey.bin");
+        JournalAddressBookStorage jsonStorage = new JournalAddressBookStorage(jsonPath);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryPath);
+        AddressBook addressBook = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        jsonStorage.saveAddressBook(addressBook);
+
+        // to binary: the json file and its journal become the backup
+        assertTrue(AddressBookFileConverter.convertIfMissing(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(jsonPath));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(jsonPath)));
+        Path jsonBackupPath = AddressBookFileConverter.getBackupFilePath(jsonPath);
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(jsonBackupPath).readAddressBook()
+                .get()));
+        addressBook.removePerson(ALICE);
+        binaryStorage.saveAddressBook(addressBook);
+
+        // back to json: the changes made in binary are carried over
+        JournalAddressBookStorage newJsonStorage = new JournalAddressBookStorage(jsonPath);
+        assertTrue(AddressBookFileConverter.convertIfMissing(binaryStorage, newJsonStorage));
+        assertFalse(Files.exists(binaryPath));
+        assertEquals(addressBook, new AddressBook(newJsonStorage.readAddressBook().get()));
+        addressBook.addPerson(IDA);
+        newJsonStorage.saveAddressBook(addressBook);
+
+        // and to binary again
+        BinaryAddressBookStorage newBinaryStorage = new BinaryAddressBookStorage(binaryPath);
+        assertTrue(AddressBookFileConverter.convertIfMissing(newJsonStorage, newBinaryStorage));
+        assertEquals(addressBook, new AddressBook(newBinaryStorage.readAddressBook().get()));
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(jsonBackupPath).readAddressBook()
+                .get()));
+    }
+}
@@ -0,0 +1,102 @@
+package homey.storage;
+
+import static homey.testutil.Assert.assertThrows;
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import homey.model.AddressBook;
+import homey.model.ReadOnlyAddressBook;
+import homey.testutil.AddressBookBuilder;
+
+public class AddressBookSaverTest {
+
+    private final RecordingStorage storage = new RecordingStorage();
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Test
+    public void save_whileScheduled_onlyLatestSaved() {
+        AddressBookSaver saver = new AddressBookSaver(storage, tasks::add);
+        ReadOnlyAddressBook first = new AddressBook();
+        ReadOnlyAddressBook second = new AddressBookBuilder().withPerson(ALICE).build();
+        ReadOnlyAddressBook third = getTypicalAddressBook();
+
+        saver.save(first);
+        saver.save(second);
+        saver.save(third);
+        assertEquals(1, tasks.size());
+        assertTrue(storage.saved.isEmpty());
+
+        tasks.remove(0).run();
+        assertEquals(List.of(third), storage.saved);
+        assertSame(third, storage.saved.get(0));
+
+        saver.save(first);
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void takeFailure_failedSave_returnedOnce() {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        storage.failure = new IOException("disk full");
+
+        saver.save(new AddressBook());
+        assertSame(storage.failure, saver.takeFailure().get());
+        assertFalse(saver.takeFailure().isPresent());
+
+        storage.failure = null;
+        saver.save(new AddressBook());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void flush_failedSave_throwsIoException() {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        storage.failure = new IOException("disk full");
+        saver.save(new AddressBook());
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    @Test
+    public void close_inBackground_savesEverythingFirst() throws Exception {
+        AddressBookSaver saver = AddressBookSaver.inBackground(storage);
+        AddressBook last = null;
+        for (int i = 0; i < 20; i++) {
+            last = getTypicalAddressBook();
+            saver.save(last);
+        }
+        saver.close();
+        assertSame(last, storage.saved.get(storage.saved.size() - 1));
+    }
+
+    /**
+     * A storage that records the address books it is asked to save.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private IOException failure;
+
+        RecordingStorage() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+    }
+}
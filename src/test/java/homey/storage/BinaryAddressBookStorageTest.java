@@ -0,0 +1,181 @@
+package homey.storage;
+
+import static homey.testutil.Assert.assertThrows;
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.HOON;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import homey.commons.exceptions.DataLoadingException;
+import homey.commons.util.DataLoadMode;
+import homey.commons.util.WriteMode;
+import homey.model.AddressBook;
+import homey.model.ReadOnlyAddressBook;
+import homey.model.person.Person;
+import homey.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("a.bin"))
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        for (DataLoadMode loadMode : DataLoadMode.values()) {
+            readAndSaveAddressBook(testFolder.resolve(loadMode + ".bin"), loadMode);
+        }
+    }
+
+    private void readAndSaveAddressBook(Path filePath, DataLoadMode loadMode) throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, WriteMode.ATOMIC, loadMode);
+        AddressBook original = getTypicalAddressBook();
+        Person withMeeting = new PersonBuilder(BENSON).withMeeting("2025-11-03 14:00")
+                .withRemark("Likes tea, café ☕").build().archived().withId(BENSON.getId());
+        original.setPerson(BENSON, withMeeting);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(ids(original.getPersonList()), ids(readBack.getPersonList()));
+        Person readBenson = readBack.getPersonList().get(original.getPersonList().indexOf(withMeeting));
+        assertTrue(readBenson.isArchived());
+        assertEquals(withMeeting.getMeeting(), readBenson.getMeeting());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("homey.bin");
+        Path jsonPath = testFolder.resolve("homey.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryPath) * 2 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("homey.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("homey.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookFormat.MAGIC);
+            out.writeByte(BinaryAddressBookFormat.VERSION + 1);
+            out.writeByte(0);
+        }
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("homey.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        for (DataLoadMode loadMode : DataLoadMode.values()) {
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, WriteMode.ATOMIC,
+                    loadMode).readAddressBook());
+        }
+    }
+
+    @Test
+    public void readAddressBook_lazyDetailsFileReplaced_detailsStillRead() throws Exception {
+        for (WriteMode writeMode : WriteMode.values()) {
+            Path filePath = testFolder.resolve(writeMode + ".bin");
+            BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, writeMode, DataLoadMode.LAZY);
+            AddressBook original = getTypicalAddressBook();
+            storage.saveAddressBook(original);
+
+            // the details of the persons read have not been read yet, so they are read from the file after the save
+            ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+            AddressBook replacement = new AddressBook();
+            replacement.addPerson(HOON);
+            replacement.addPerson(BENSON);
+            storage.saveAddressBook(replacement);
+
+            assertEquals(original, new AddressBook(readBack));
+        }
+    }
+
+    @Test
+    public void readAddressBook_lazyThenDirectSave_detailsStillRead() throws Exception {
+        Path filePath = testFolder.resolve("homey.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, WriteMode.DIRECT,
+                DataLoadMode.LAZY);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        AddressBook edited = new AddressBook(readBack);
+        edited.removePerson(ALICE);
+        storage.saveAddressBook(edited);
+
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(edited, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("homey.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // Alice's email is the only field containing '@' before the second person; make it invalid
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '@') {
+                bytes[i] = ' ';
+                break;
+            }
+        }
+        Files.write(filePath, bytes);
+
+        for (DataLoadMode loadMode : DataLoadMode.values()) {
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, WriteMode.ATOMIC,
+                    loadMode).readAddressBook());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("a.bin"))
+                .saveAddressBook(null));
+    }
+
+    private static List<Long> ids(List<Person> persons) {
+        return persons.stream().map(Person::getId).toList();
+    }
+}
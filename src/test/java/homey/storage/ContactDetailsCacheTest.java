@@ -0,0 +1,53 @@
+package homey.storage;
+
+import static homey.testutil.Assert.assertThrows;
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import homey.model.person.ContactDetails;
+
+public class ContactDetailsCacheTest {
+
+    private final List<Integer> reads = new ArrayList<>();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ContactDetailsCache(0));
+    }
+
+    @Test
+    public void get_cachedDetails_notReadAgain() {
+        ContactDetailsCache cache = new ContactDetailsCache(2);
+        ContactDetails details = cache.get(1, this::read);
+
+        assertSame(details, cache.get(1, this::read));
+        assertEquals(List.of(1), reads);
+    }
+
+    @Test
+    public void get_overCapacity_leastRecentlyUsedDropped() {
+        ContactDetailsCache cache = new ContactDetailsCache(2);
+        cache.get(1, this::read);
+        cache.get(2, this::read);
+        cache.get(1, this::read);
+        cache.get(3, this::read);
+        assertEquals(2, cache.size());
+
+        cache.get(1, this::read);
+        cache.get(2, this::read);
+        assertEquals(List.of(1, 2, 3, 2), reads);
+        assertEquals(BENSON.getDetails(), cache.get(2, this::read));
+    }
+
+    private ContactDetails read(int position) {
+        reads.add(position);
+        return position % 2 == 0 ? BENSON.getDetails() : ALICE.getDetails();
+    }
+}
@@ -0,0 +1,230 @@
+package homey.storage;
+
+import static homey.testutil.Assert.assertThrows;
+import static homey.testutil.TypicalPersons.ALICE;
+import static homey.testutil.TypicalPersons.BENSON;
+import static homey.testutil.TypicalPersons.CARL;
+import static homey.testutil.TypicalPersons.HOON;
+import static homey.testutil.TypicalPersons.IDA;
+import static homey.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import homey.commons.exceptions.DataLoadingException;
+import homey.model.AddressBook;
+import homey.model.person.Person;
+import homey.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(testFolder.resolve("a.json"))
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Likes tea").build().withId(BENSON.getId());
+        original.setPerson(BENSON, editedBenson);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_archivedAndRelationChanged_replayedAfterReload() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Person archivedAlice = ALICE.archived();
+        original.setPerson(ALICE, archivedAlice);
+        String otherRelation = BENSON.getRelation().value.equals("client") ? "vendor" : "client";
+        Person vendorBenson = new PersonBuilder(BENSON).withRelation(otherRelation).build().withId(BENSON.getId());
+        original.setPerson(BENSON, vendorBenson);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        List<Person> readBack = new JournalAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertTrue(readBack.get(0).isArchived());
+        assertEquals(otherRelation, readBack.get(1).getRelation().value);
+
+        original.setPerson(archivedAlice, archivedAlice.unarchived());
+        storage.saveAddressBook(original);
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0)
+                .isArchived());
+    }
+
+    @Test
+    public void saveAddressBook_insertedInMiddle_replayedInPlace() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> persons = new ArrayList<>(original.getPersonList());
+        persons.add(1, IDA);
+        persons.remove(CARL);
+        original.setPersons(persons);
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compacts() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        List<Person> persons = new ArrayList<>(original.getPersonList());
+        persons.add(persons.remove(0));
+        original.setPersons(persons);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalLargerThanSnapshot_compacts() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        long snapshotBytes = Files.size(filePath);
+
+        Person current = BENSON;
+        for (int i = 0; Files.size(filePath) == snapshotBytes; i++) {
+            Person edited = new PersonBuilder(current).withRemark("Remark " + i).build().withId(BENSON.getId());
+            original.setPerson(current, edited);
+            current = edited;
+            storage.saveAddressBook(original);
+            assertTrue(!Files.exists(journalPath) || Files.size(journalPath) <= snapshotBytes);
+        }
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unfinishedLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalPath, "{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_malformedRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(journalPath, "not a record\n{\"op\":\"remove\",\"id\":1}\n");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        Files.writeString(journalPath, "{\"op\":\"rename\",\"id\":1}\n");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_samePersons() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String journal = Files.readString(journalPath);
+
+        // a compaction interrupted after writing the snapshot but before deleting the journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Files.writeString(journalPath, journal);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("homey.json");
+        Path otherPath = testFolder.resolve("other.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherPath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, otherPath);
+
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherPath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(testFolder.resolve("a.json"))
+                .saveAddressBook(null));
+    }
+}
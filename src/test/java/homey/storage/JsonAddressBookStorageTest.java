@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import homey.commons.exceptions.DataLoadingException;
+import homey.commons.util.JsonLayout;
+import homey.commons.util.JsonUtil;
+import homey.commons.util.WriteMode;
 import homey.model.AddressBook;
 import homey.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,28 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyLayout_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, WriteMode.ATOMIC, JsonLayout.PRETTY).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_compactLayout_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, WriteMode.ATOMIC, JsonLayout.COMPACT);
+        storage.saveAddressBook(original);
+
+        String written = Files.readString(filePath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)), written);
+        assertEquals(1, written.lines().count());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -2,15 +2,28 @@ package homey.storage;
 
 import static homey.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import homey.commons.exceptions.IllegalValueException;
 import homey.commons.util.JsonUtil;
 import homey.model.AddressBook;
+import homey.model.person.Name;
+import homey.model.person.Person;
+import homey.model.person.Phone;
+import homey.testutil.PersonBuilder;
 import homey.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +57,86 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_severalInvalidPersons_firstReported() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < ParallelPersonConverter.BATCH_SIZE * 2; i++) {
+            persons.add(new JsonAdaptedPerson(TypicalPersons.ALICE));
+        }
+        persons.set(ParallelPersonConverter.BATCH_SIZE + 2, new JsonAdaptedPerson(1L, "R@chel", "94351253",
+                "alice@example.com", "123, Jurong West Ave 6", "client", "prospect", "", List.of(), null, null));
+        persons.set(ParallelPersonConverter.BATCH_SIZE * 2 - 1, new JsonAdaptedPerson(2L, "Alice", "+651234",
+                "alice@example.com", "123, Jurong West Ave 6", "client", "prospect", "", List.of(), null, null));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(persons)::toModelType);
+        persons.set(ParallelPersonConverter.BATCH_SIZE + 2, persons.get(0));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(persons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_personWithoutIdBeforeSavedIds_idsDistinct() throws Exception {
+        // the person without an id is converted first, and would be given the id saved with the next person
+        long nextId = new PersonBuilder().build().getId() + 1;
+        List<JsonAdaptedPerson> persons = List.of(
+                new JsonAdaptedPerson(null, "Alice", "94351253", "alice@example.com", "123, Jurong West Ave 6",
+                        "client", "prospect", "", List.of(), null, null),
+                new JsonAdaptedPerson(nextId, "Benson", "98765432", "johnd@example.com", "311, Clementi Ave 2",
+                        "client", "prospect", "", List.of(), null, null));
+
+        List<Person> loaded = new JsonSerializableAddressBook(persons).toModelType().getPersonList();
+        assertEquals(nextId, loaded.get(1).getId());
+        assertNotEquals(nextId, loaded.get(0).getId());
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = List.of(
+                new JsonAdaptedPerson(1L, "Alice", "94351253", "alice@example.com", "123, Jurong West Ave 6",
+                        "client", "prospect", "", List.of(), null, null),
+                new JsonAdaptedPerson(1L, "Benson", "98765432", "johnd@example.com", "311, Clementi Ave 2",
+                        "client", "prospect", "", List.of(), null, null));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID,
+                new JsonSerializableAddressBook(persons)::toModelType);
+    }
+
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readModelType(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_extraFieldsAndNoPersons_emptyAddressBook() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(
+                "{\"version\": {\"persons\": [1]}, \"tags\": [\"a\"]}".getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals(new AddressBook(), JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.readModelType(JsonUtil.createParser(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)))));
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.readModelType(JsonUtil.createParser(
+                new ByteArrayInputStream("{\"persons\": 3}".getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    private AddressBook readModelType(Path file) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(file))) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
+
 }
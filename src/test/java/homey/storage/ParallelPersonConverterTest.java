@@ -0,0 +1,82 @@
+package homey.storage;
+
+import static homey.testutil.Assert.assertThrows;
+import static homey.testutil.TypicalPersons.ALICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import homey.commons.exceptions.IllegalValueException;
+import homey.model.person.Person;
+
+public class ParallelPersonConverterTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_noValues_emptyList() throws Exception {
+        assertTrue(new ParallelPersonConverter<Long>(pool, ALICE::withId).finish().isEmpty());
+    }
+
+    @Test
+    public void finish_manyBatches_orderKept() throws Exception {
+        ParallelPersonConverter<Long> converter = new ParallelPersonConverter<>(pool, ALICE::withId);
+        int count = ParallelPersonConverter.BATCH_SIZE * 3 + 7;
+        for (long id = 1; id <= count; id++) {
+            converter.add(id);
+        }
+
+        List<Person> persons = converter.finish();
+        assertEquals(count, persons.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i + 1, persons.get(i).getId());
+        }
+    }
+
+    @Test
+    public void finish_severalInvalidValues_firstReported() {
+        ParallelPersonConverter<Long> converter = new ParallelPersonConverter<>(pool, id -> {
+            if (id % 1000 == 999) {
+                throw new IllegalValueException("Invalid " + id);
+            }
+            return ALICE.withId(id);
+        });
+
+        // the invalid values are converted in the same batch, so the pool may reach them in any order
+        assertThrows(IllegalValueException.class, "Invalid 999", () -> {
+            for (long id = 1; id <= ParallelPersonConverter.BATCH_SIZE / 2; id++) {
+                converter.add(id);
+            }
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_runtimeExceptionBeforeInvalidValue_runtimeExceptionThrown() {
+        ParallelPersonConverter<Long> converter = new ParallelPersonConverter<>(pool, id -> {
+            if (id == 10) {
+                throw new IllegalArgumentException("Unknown relation");
+            } else if (id == 20) {
+                throw new IllegalValueException("Invalid " + id);
+            }
+            return ALICE.withId(id);
+        });
+
+        assertThrows(IllegalArgumentException.class, "Unknown relation", () -> {
+            for (long id = 1; id <= 30; id++) {
+                converter.add(id);
+            }
+            converter.finish();
+        });
+    }
+}